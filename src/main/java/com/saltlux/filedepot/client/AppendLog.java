@@ -0,0 +1,123 @@
+package com.saltlux.filedepot.client;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 한 줄에 하나의 레코드를 기록하는 append-only 로그 파일.
+ * {@link ContentHashIndex}와 {@link IngestJournal}이 공유합니다.
+ *
+ * <p>
+ * 열 때 완전한 줄만 재생하며, 비정상 종료로 잘린 마지막 줄(줄바꿈 없이 끝난 줄)은 버립니다.
+ * 잘린 줄이 있었거나 레코드 수가 살아있는 레코드 수의 2배를 넘으면, 현재 상태로 임시 파일을 작성하여
+ * 디스크에 강제로 기록한 뒤 원자적으로 교체합니다. 따라서 이후 기록이 잘린 줄에 이어 붙지 않습니다.
+ * 동기화는 호출자가 담당합니다.
+ */
+final class AppendLog implements Closeable {
+
+  private final FileChannel channel;
+
+  private AppendLog(final FileChannel channel) {
+    this.channel = channel;
+  }
+
+  /**
+   * 로그를 재생한 뒤 기록용으로 엽니다.
+   *
+   * @param file     로그 파일 경로 (없으면 생성)
+   * @param replay   완전한 줄마다 호출. 유효한 레코드이면 true
+   * @param live     재생 후 살아있는 레코드 수
+   * @param snapshot 로그를 새로 작성할 때 기록할 현재 상태 레코드
+   */
+  static AppendLog open(
+      final Path file,
+      final Predicate<String> replay,
+      final IntSupplier live,
+      final Supplier<? extends Iterable<String>> snapshot) throws IOException {
+    int records = 0;
+    boolean torn = false;
+    if (Files.exists(file)) {
+      torn = !endsWithNewline(file);
+      try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        String line = reader.readLine();
+        while (line != null) {
+          final String next = reader.readLine();
+          // 마지막 줄이 줄바꿈 없이 끝났으면 기록 도중 중단된 것
+          if ((next != null || !torn) && replay.test(line)) {
+            records++;
+          }
+          line = next;
+        }
+      }
+    }
+    if (torn || records > 2 * Math.max(1, live.getAsInt())) {
+      compact(file, snapshot.get());
+    }
+    return new AppendLog(
+        FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+  }
+
+  /**
+   * 레코드 한 줄을 OS 버퍼까지 기록합니다.
+   *
+   * @throws java.nio.channels.ClosedChannelException 로그가 닫힌 경우
+   */
+  void append(final String record) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * 기록한 레코드를 디스크에 강제로 기록합니다. 기록 lock 밖에서 호출해도 안전합니다.
+   *
+   * @throws java.nio.channels.ClosedChannelException 로그가 닫힌 경우
+   */
+  void force() throws IOException {
+    channel.force(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private static boolean endsWithNewline(final Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size == 0) {
+        return true;
+      }
+      final ByteBuffer last = ByteBuffer.allocate(1);
+      channel.read(last, size - 1);
+      return last.get(0) == '\n';
+    }
+  }
+
+  private static void compact(final Path file, final Iterable<String> records) throws IOException {
+    final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+      for (final String record : records) {
+        out.write(record);
+        out.write('\n');
+      }
+    }
+    try (FileChannel written = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+      written.force(true);
+    }
+    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+}
@@ -0,0 +1,239 @@
+package com.saltlux.filedepot.client;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 업로드/다운로드 바이트 스트림에 적용하는 token bucket 대역폭 제한기.
+ *
+ * <p>
+ * {@link TransferPriority} 클래스마다 별도의 초당 바이트 예산을 가지며, 예산은 실행 중에 변경할 수 있습니다.
+ * <ul>
+ * <li>같은 클래스의 동시 전송들은 가중치에 비례하여 대역폭을 나눕니다 (start-time fair queuing).</li>
+ * <li>BULK 전송은 자체 예산을 다 쓰면, 대기 중인 INTERACTIVE 전송이 없을 때 INTERACTIVE의 남는 토큰을 사용합니다.</li>
+ * <li>예산이 0이면 해당 클래스는 제한하지 않습니다.</li>
+ * </ul>
+ * 버퍼 하나가 남은 토큰보다 커도 바로 허용하고 토큰을 음수로 만들어, 이후 전송이 그만큼 기다리게 합니다.
+ */
+public final class BandwidthLimiter {
+
+  private static final long MIN_BURST_BYTES = 64 * 1024;
+  private static final double BURST_SECONDS = 0.1;
+  private static final int PREFETCH = 1;
+
+  private final Map<TransferPriority, Bucket> buckets = new EnumMap<>(TransferPriority.class);
+  private Disposable wakeUp;
+  private long wakeUpAt;
+
+  static final class Bucket {
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+        Comparator.comparingDouble((Waiter waiter) -> waiter.finishTag).thenComparingLong(waiter -> waiter.sequence));
+    private long bytesPerSecond;
+    private double tokens;
+    private long refilledAt;
+    private double virtualTime;
+    private long sequence;
+
+    Bucket(final long bytesPerSecond, final long refilledAt) {
+      this.bytesPerSecond = bytesPerSecond;
+      this.refilledAt = refilledAt;
+    }
+
+    double tokens() {
+      return tokens;
+    }
+
+    private boolean limited() {
+      return bytesPerSecond > 0;
+    }
+
+    private double capacity() {
+      return Math.max(MIN_BURST_BYTES, bytesPerSecond * BURST_SECONDS);
+    }
+
+    void refill(final long now) {
+      if (limited()) {
+        // long 곱셈은 수십 초만 쉬어도 overflow되므로 double로 계산
+        tokens = Math.min(capacity(), tokens + (now - refilledAt) / 1e9 * bytesPerSecond);
+      }
+      refilledAt = now;
+    }
+
+    /** 토큰이 양수가 될 때까지 남은 시간 (nanos) */
+    private long nanosUntilAvailable() {
+      return tokens > 0 ? 0 : (long) Math.ceil((1 - tokens) * 1e9 / bytesPerSecond);
+    }
+  }
+
+  private static final class Transfer {
+    private final TransferPriority priority;
+    private final int weight;
+    private double lastFinishTag;
+
+    private Transfer(final TransferPriority priority, final int weight) {
+      this.priority = priority;
+      this.weight = weight;
+    }
+  }
+
+  private record Waiter(long bytes, double finishTag, long sequence, MonoSink<Void> sink) {
+  }
+
+  public BandwidthLimiter() {
+    for (final TransferPriority priority : TransferPriority.values()) {
+      buckets.put(priority, new Bucket(0, System.nanoTime()));
+    }
+  }
+
+  /**
+   * 우선순위 클래스의 초당 바이트 예산을 설정합니다. 진행 중인 전송에도 바로 적용됩니다.
+   *
+   * @param priority       우선순위 클래스 (not null)
+   * @param bytesPerSecond 초당 바이트 수 (0이면 제한 없음, 음수 불가)
+   * @return this
+   * @throws IllegalArgumentException priority가 null이거나 bytesPerSecond가 음수인 경우
+   */
+  public BandwidthLimiter setRate(final TransferPriority priority, final long bytesPerSecond) {
+    if (priority == null) {
+      throw new IllegalArgumentException("priority must not be null");
+    }
+    if (bytesPerSecond < 0) {
+      throw new IllegalArgumentException("bytesPerSecond must not be negative");
+    }
+    final List<MonoSink<Void>> granted;
+    synchronized (this) {
+      final Bucket bucket = buckets.get(priority);
+      bucket.refill(System.nanoTime());
+      bucket.bytesPerSecond = bytesPerSecond;
+      bucket.tokens = Math.min(bucket.tokens, bucket.capacity());
+      granted = serve();
+    }
+    granted.forEach(MonoSink::success);
+    return this;
+  }
+
+  /**
+   * @param priority 우선순위 클래스
+   * @return 초당 바이트 예산 (0이면 제한 없음)
+   */
+  public synchronized long getRate(final TransferPriority priority) {
+    return buckets.get(priority).bytesPerSecond;
+  }
+
+  /**
+   * 버퍼가 예산 안에서만 흘러가도록 스트림을 감쌉니다. 구독마다 하나의 전송으로 취급합니다.
+   */
+  Flux<DataBuffer> throttle(final Flux<DataBuffer> source, final TransferPriority priority, final int weight) {
+    return Flux.defer(() -> {
+      final Transfer transfer = new Transfer(priority, weight);
+      return source.concatMap(buffer -> acquire(transfer, buffer.readableByteCount())
+          .thenReturn(buffer)
+          .doOnCancel(() -> DataBufferUtils.release(buffer)), PREFETCH);
+    });
+  }
+
+  private Mono<Void> acquire(final Transfer transfer, final long bytes) {
+    if (bytes == 0) {
+      return Mono.empty();
+    }
+    return Mono.create(sink -> {
+      final List<MonoSink<Void>> granted;
+      synchronized (this) {
+        final Bucket bucket = buckets.get(transfer.priority);
+        final double startTag = Math.max(bucket.virtualTime, transfer.lastFinishTag);
+        transfer.lastFinishTag = startTag + (double) bytes / transfer.weight;
+        final Waiter waiter = new Waiter(bytes, transfer.lastFinishTag, bucket.sequence++, sink);
+        bucket.waiters.add(waiter);
+        sink.onCancel(() -> {
+          synchronized (this) {
+            bucket.waiters.remove(waiter);
+          }
+        });
+        granted = serve();
+      }
+      granted.forEach(MonoSink::success);
+    });
+  }
+
+  // ========== 스케줄링 (lock 보유 상태에서 호출) ==========
+
+  /**
+   * 토큰이 있는 만큼 대기자를 허용하고, 남은 대기자가 있으면 토큰이 생기는 시각에 다시 깨어나도록 예약합니다.
+   * 허용된 sink는 lock 밖에서 완료해야 하므로 목록으로 반환합니다.
+   */
+  private List<MonoSink<Void>> serve() {
+    final long now = System.nanoTime();
+    final Bucket interactive = buckets.get(TransferPriority.INTERACTIVE);
+    final Bucket bulk = buckets.get(TransferPriority.BULK);
+    interactive.refill(now);
+    bulk.refill(now);
+
+    final List<MonoSink<Void>> granted = new ArrayList<>();
+    while (!interactive.waiters.isEmpty() && (!interactive.limited() || interactive.tokens > 0)) {
+      granted.add(grant(interactive, interactive));
+    }
+    while (!bulk.waiters.isEmpty()) {
+      if (!bulk.limited() || bulk.tokens > 0) {
+        granted.add(grant(bulk, bulk));
+      } else if (interactive.waiters.isEmpty() && interactive.limited() && interactive.tokens > 0) {
+        granted.add(grant(bulk, interactive));
+      } else {
+        break;
+      }
+    }
+
+    long delay = Long.MAX_VALUE;
+    if (!interactive.waiters.isEmpty()) {
+      delay = interactive.nanosUntilAvailable();
+    }
+    if (!bulk.waiters.isEmpty()) {
+      delay = Math.min(delay, bulk.nanosUntilAvailable());
+    }
+    if (delay != Long.MAX_VALUE) {
+      scheduleWakeUp(now, delay);
+    }
+    return granted;
+  }
+
+  private static MonoSink<Void> grant(final Bucket queue, final Bucket budget) {
+    final Waiter waiter = queue.waiters.poll();
+    queue.virtualTime = waiter.finishTag();
+    if (budget.limited()) {
+      budget.tokens -= waiter.bytes();
+    }
+    return waiter.sink();
+  }
+
+  private void scheduleWakeUp(final long now, final long delay) {
+    final long at = now + delay;
+    if (wakeUp != null && !wakeUp.isDisposed() && wakeUpAt - at <= 0) {
+      return;
+    }
+    if (wakeUp != null) {
+      wakeUp.dispose();
+    }
+    wakeUpAt = at;
+    wakeUp = Schedulers.parallel().schedule(() -> {
+      final List<MonoSink<Void>> granted;
+      synchronized (this) {
+        wakeUp = null;
+        granted = serve();
+      }
+      granted.forEach(MonoSink::success);
+    }, delay, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,188 @@
+package com.saltlux.filedepot.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import reactor.core.publisher.Mono;
+
+import me.hanju.filedepot.api.dto.ChunkDto;
+
+/**
+ * 여러 파일의 청크 생성 완료를 하나의 스케줄러 스레드에서 추적합니다.
+ *
+ * <p>
+ * 모든 추적 상태는 스케줄러 스레드에서만 변경됩니다. 같은 ID를 기다리는 호출자들은 하나의 폴링을 공유하며,
+ * 폴링 간격은 추적 시작 후 경과 시간에 비례하여 늘어납니다. 동시에 진행 중인 폴링 요청 수는 제한됩니다.
+ * 호출자의 timeout도 스케줄러에서 처리하며, 호출자 future는 사용자 콜백이 폴링을 막지 않도록
+ * 별도 executor에서 완료합니다.
+ */
+final class ChunkAwaiter {
+
+  private static final long MIN_DELAY_MILLIS = 200;
+  private static final long MAX_DELAY_MILLIS = 10_000;
+  private static final double AGE_FACTOR = 0.25;
+
+  private final Function<String, Mono<List<ChunkDto>>> poller;
+  private final int maxInFlight;
+  private final Executor completionExecutor;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final Map<String, Tracker> trackers = new HashMap<>();
+  private final ArrayDeque<Tracker> due = new ArrayDeque<>();
+  private int inFlight;
+
+  private static final class Tracker {
+    private final String id;
+    private final long startedAt;
+    // 호출자 future → timeout 예약. 비면 추적 종료
+    private final Map<CompletableFuture<List<ChunkDto>>, ScheduledFuture<?>> callers = new LinkedHashMap<>();
+    private Throwable lastError;
+
+    private Tracker(final String id, final long startedAt) {
+      this.id = id;
+      this.startedAt = startedAt;
+    }
+  }
+
+  ChunkAwaiter(
+      final Function<String, Mono<List<ChunkDto>>> poller,
+      final int maxInFlight,
+      final Executor completionExecutor) {
+    this.poller = poller;
+    this.maxInFlight = maxInFlight;
+    this.completionExecutor = completionExecutor;
+    this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, "file-depot-chunk-awaiter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.setKeepAliveTime(30, TimeUnit.SECONDS);
+    this.scheduler.allowCoreThreadTimeOut(true);
+    this.scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * 청크가 생성되면 완료되는 future를 반환합니다.
+   * timeout 안에 생성되지 않으면 마지막 폴링 에러를 원인으로 하는 {@link TimeoutException}으로 완료됩니다.
+   */
+  CompletableFuture<List<ChunkDto>> await(final String id, final Duration timeout) {
+    final CompletableFuture<List<ChunkDto>> caller = new CompletableFuture<>();
+    scheduler.execute(() -> {
+      if (caller.isDone()) {
+        return;
+      }
+      final Tracker tracker = track(id);
+      tracker.callers.put(caller, scheduler.schedule(
+          () -> expire(tracker, caller), timeout.toNanos(), TimeUnit.NANOSECONDS));
+      if (tracker.callers.size() == 1) {
+        enqueue(tracker);
+      }
+    });
+    // 호출자가 취소하면 추적에서 제거. 등록 작업보다 뒤에 실행되므로 등록 전 취소도 처리됨
+    caller.whenComplete((chunks, error) -> scheduler.execute(() -> release(id, caller)));
+    return caller;
+  }
+
+  // ========== 스케줄러 스레드 ==========
+
+  private Tracker track(final String id) {
+    return trackers.computeIfAbsent(id, key -> new Tracker(key, System.nanoTime()));
+  }
+
+  private void enqueue(final Tracker tracker) {
+    if (tracker.callers.isEmpty()) {
+      return;
+    }
+    due.add(tracker);
+    drain();
+  }
+
+  private void drain() {
+    while (inFlight < maxInFlight && !due.isEmpty()) {
+      final Tracker tracker = due.poll();
+      if (tracker.callers.isEmpty()) {
+        continue;
+      }
+      inFlight++;
+      Mono.defer(() -> poller.apply(tracker.id))
+          .defaultIfEmpty(List.of())
+          .subscribe(
+              chunks -> scheduler.execute(() -> onPolled(tracker, chunks, null)),
+              error -> scheduler.execute(() -> onPolled(tracker, null, error)));
+    }
+  }
+
+  private void onPolled(final Tracker tracker, final List<ChunkDto> chunks, final Throwable error) {
+    inFlight--;
+    if (!tracker.callers.isEmpty()) {
+      if (chunks != null && !chunks.isEmpty()) {
+        finish(tracker);
+        final List<CompletableFuture<List<ChunkDto>>> callers = new ArrayList<>(tracker.callers.keySet());
+        tracker.callers.values().forEach(expiry -> expiry.cancel(false));
+        tracker.callers.clear();
+        callers.forEach(caller -> completionExecutor.execute(() -> caller.complete(chunks)));
+      } else {
+        if (error != null) {
+          tracker.lastError = error;
+        }
+        final long delay = nextDelayNanos(tracker, System.nanoTime());
+        scheduler.schedule(() -> enqueue(tracker), delay, TimeUnit.NANOSECONDS);
+      }
+    }
+    drain();
+  }
+
+  private void expire(final Tracker tracker, final CompletableFuture<List<ChunkDto>> caller) {
+    if (tracker.callers.remove(caller) == null) {
+      return;
+    }
+    if (tracker.callers.isEmpty()) {
+      finish(tracker);
+    }
+    final TimeoutException timeout = new TimeoutException("chunks not ready: " + tracker.id);
+    timeout.initCause(tracker.lastError);
+    completionExecutor.execute(() -> caller.completeExceptionally(timeout));
+  }
+
+  private void release(final String id, final CompletableFuture<List<ChunkDto>> caller) {
+    final Tracker tracker = trackers.get(id);
+    if (tracker == null) {
+      return;
+    }
+    final ScheduledFuture<?> expiry = tracker.callers.remove(caller);
+    if (expiry == null) {
+      return;
+    }
+    expiry.cancel(false);
+    if (tracker.callers.isEmpty()) {
+      finish(tracker);
+    }
+  }
+
+  private void finish(final Tracker tracker) {
+    trackers.remove(tracker.id, tracker);
+  }
+
+  /**
+   * 경과 시간의 일정 비율을 다음 폴링 간격으로 사용합니다 (±20% jitter).
+   * 막 업로드된 파일은 짧게, 오래 걸리는 큰 파일은 길게 기다립니다.
+   */
+  private static long nextDelayNanos(final Tracker tracker, final long now) {
+    final long ageMillis = TimeUnit.NANOSECONDS.toMillis(now - tracker.startedAt);
+    final long base = Math.max(MIN_DELAY_MILLIS, Math.min(MAX_DELAY_MILLIS, (long) (ageMillis * AGE_FACTOR)));
+    final double jitter = ThreadLocalRandom.current().nextDouble(0.8, 1.2);
+    return TimeUnit.MILLISECONDS.toNanos((long) (base * jitter));
+  }
+}
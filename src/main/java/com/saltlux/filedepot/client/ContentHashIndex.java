@@ -0,0 +1,192 @@
+package com.saltlux.filedepot.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 컨텐츠 SHA-256 해시 → 파일 ID 매핑을 로컬 파일에 영속화하는 업로드 중복 제거 인덱스.
+ *
+ * <p>
+ * 인덱스 파일은 append-only 로그이며 한 줄에 하나의 레코드를 기록합니다:
+ * <ul>
+ * <li>{@code +<hash>\t<id>} - 매핑 추가</li>
+ * <li>{@code -<id>} - 매핑 제거</li>
+ * </ul>
+ * 열 때 로그를 재생하여 메모리 맵을 구성하며, 제거된 레코드가 살아있는 레코드보다 많으면
+ * 로그를 새로 작성합니다. 비정상 종료로 잘린 마지막 줄은 무시하고 로그를 새로 작성하므로,
+ * 이후 기록이 잘린 줄에 이어 붙지 않습니다.
+ */
+public final class ContentHashIndex implements Closeable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path file;
+  private final Map<String, String> idsByHash = new HashMap<>();
+  private final Map<String, String> hashesById = new HashMap<>();
+  private AppendLog log;
+
+  private ContentHashIndex(final Path file) {
+    this.file = file;
+  }
+
+  /**
+   * 인덱스 파일을 열거나 새로 생성합니다.
+   *
+   * @param file 인덱스 파일 경로 (not null)
+   * @return 중복 제거 인덱스
+   * @throws IllegalArgumentException file이 null인 경우
+   * @throws FileDepotClientException 인덱스 파일을 읽거나 쓸 수 없는 경우
+   */
+  public static ContentHashIndex open(final Path file) {
+    if (file == null) {
+      throw new IllegalArgumentException("file must not be null");
+    }
+    final ContentHashIndex index = new ContentHashIndex(file);
+    try {
+      index.load();
+    } catch (final IOException | UncheckedIOException e) {
+      throw new FileDepotClientException("failed to open dedup index: " + e.getMessage(), e);
+    }
+    return index;
+  }
+
+  /**
+   * 해시에 매핑된 파일 ID를 조회합니다.
+   *
+   * @param hash SHA-256 hex 문자열
+   * @return 파일 ID, 없으면 null
+   */
+  public synchronized String find(final String hash) {
+    return idsByHash.get(hash);
+  }
+
+  /**
+   * 해시 → 파일 ID 매핑을 추가합니다.
+   *
+   * @param hash SHA-256 hex 문자열
+   * @param id   파일 UUID
+   * @throws FileDepotClientException 인덱스 파일 쓰기 실패
+   */
+  public synchronized void put(final String hash, final String id) {
+    apply(hash, id);
+    append("+" + hash + "\t" + id);
+  }
+
+  /**
+   * 파일 ID에 대한 매핑을 제거합니다. 매핑이 없는 ID는 무시됩니다.
+   *
+   * @param ids 제거할 파일 UUID 목록
+   * @throws FileDepotClientException 인덱스 파일 쓰기 실패
+   */
+  public synchronized void removeIds(final Collection<String> ids) {
+    for (final String id : ids) {
+      if (remove(id)) {
+        append("-" + id);
+      }
+    }
+  }
+
+  /**
+   * @return 현재 매핑 수
+   */
+  public synchronized int size() {
+    return idsByHash.size();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (log != null) {
+      log.close();
+      log = null;
+    }
+  }
+
+  // ========== 해시 계산 ==========
+
+  /**
+   * 파일 컨텐츠를 한 번 스트리밍하며 SHA-256 해시를 계산합니다.
+   */
+  static String sha256(final Path path) throws IOException {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+    try (InputStream in = Files.newInputStream(path)) {
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  // ========== 로그 처리 ==========
+
+  private void load() throws IOException {
+    log = AppendLog.open(file, this::replay, idsByHash::size, () -> {
+      final List<String> records = new ArrayList<>(idsByHash.size());
+      idsByHash.forEach((hash, id) -> records.add("+" + hash + "\t" + id));
+      return records;
+    });
+  }
+
+  private boolean replay(final String line) {
+    if (line.startsWith("+")) {
+      final int tab = line.indexOf('\t');
+      if (tab > 1 && tab < line.length() - 1) {
+        apply(line.substring(1, tab), line.substring(tab + 1));
+        return true;
+      }
+    } else if (line.startsWith("-") && line.length() > 1) {
+      remove(line.substring(1));
+      return true;
+    }
+    return false;
+  }
+
+  private void append(final String record) {
+    if (log == null) {
+      throw new FileDepotClientException("dedup index is closed");
+    }
+    try {
+      log.append(record);
+    } catch (final IOException e) {
+      throw new FileDepotClientException("failed to write dedup index: " + e.getMessage(), e);
+    }
+  }
+
+  private void apply(final String hash, final String id) {
+    final String previousId = idsByHash.put(hash, id);
+    if (previousId != null && !previousId.equals(id)) {
+      hashesById.remove(previousId);
+    }
+    final String previousHash = hashesById.put(id, hash);
+    if (previousHash != null && !previousHash.equals(hash)) {
+      idsByHash.remove(previousHash);
+    }
+  }
+
+  private boolean remove(final String id) {
+    final String hash = hashesById.remove(id);
+    if (hash == null) {
+      return false;
+    }
+    idsByHash.remove(hash);
+    return true;
+  }
+}
@@ -0,0 +1,305 @@
+package com.saltlux.filedepot.client;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import me.hanju.filedepot.api.dto.StorageItemDto;
+
+/**
+ * 디렉터리 트리를 한 번 적재합니다.
+ *
+ * <p>
+ * 트리는 {@link Files#walkFileTree}로 업로드가 따라오는 만큼만 탐색하며, 파일은 boundedElastic 스케줄러에서
+ * 최대 concurrency개씩 업로드합니다. 읽을 수 없는 파일이나 디렉터리는 다른 파일처럼 실패로 기록하고 계속 진행합니다. 파일마다 업로드 URL 발급, 본문 업로드, 확정 직후 저널에 기록하므로, 중단 후 다시 실행하면
+ * 확정된 파일은 건너뛰고 본문 업로드까지 끝난 파일은 확정만 다시 시도합니다.
+ * 크기나 수정 시각이 바뀐 파일은 새로 업로드합니다.
+ */
+final class DirectoryIngester {
+
+  private static final Logger log = LoggerFactory.getLogger(DirectoryIngester.class);
+  private static final int MAX_RETAINED_FAILURES = 1000;
+
+  private final HttpFileDepotClient client;
+  private final Path root;
+  private final IngestOptions options;
+  private final IngestJournal journal;
+  private final long startedAt = System.nanoTime();
+  private final LongAdder uploaded = new LongAdder();
+  private final LongAdder resumed = new LongAdder();
+  private final LongAdder skipped = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final Map<String, RuntimeException> failures = new LinkedHashMap<>();
+
+  // 진행 상황 보고 상태 (report()에서만 사용)
+  private long reportedAt = startedAt;
+  private long reportedFiles;
+  private long reportedBytes;
+
+  DirectoryIngester(final HttpFileDepotClient client, final Path root, final IngestOptions options) {
+    this.client = client;
+    this.root = root;
+    this.options = options;
+    this.journal = options.journal();
+  }
+
+  IngestReport run() {
+    journal.bindRoot(root);
+    final Disposable reporter = options.progressListener() != null
+        ? Flux.interval(options.progressInterval(), options.progressInterval()).subscribe(tick -> report())
+        : null;
+    try {
+      walk()
+          .flatMap(file -> Mono.fromRunnable(() -> ingest(file.path(), file.attributes()))
+              .subscribeOn(Schedulers.boundedElastic()), options.concurrency())
+          .then()
+          .block();
+    } catch (final RuntimeException e) {
+      final Throwable cause = Exceptions.unwrap(e);
+      throw new FileDepotClientException("failed to walk " + root + ": " + cause.getMessage(), cause);
+    } finally {
+      if (reporter != null) {
+        reporter.dispose();
+        report();
+      }
+    }
+    synchronized (failures) {
+      return new IngestReport(
+          uploaded.sum(),
+          resumed.sum(),
+          skipped.sum(),
+          failed.sum(),
+          bytes.sum(),
+          Duration.ofNanos(System.nanoTime() - startedAt),
+          Map.copyOf(failures));
+    }
+  }
+
+  // ========== 트리 탐색 ==========
+
+  private record FoundFile(Path path, BasicFileAttributes attributes) {
+  }
+
+  /**
+   * 요청받은 만큼만 트리를 탐색합니다. 읽을 수 없는 파일이나 디렉터리는 실패로 기록하고 계속 진행합니다.
+   */
+  private Flux<FoundFile> walk() {
+    return Flux.<FoundFile>create(sink -> {
+      final Demand demand = new Demand();
+      sink.onRequest(demand::add);
+      sink.onCancel(demand::cancel);
+      try {
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes)
+              throws IOException {
+            if (!attributes.isRegularFile()) {
+              return FileVisitResult.CONTINUE;
+            }
+            if (!demand.take()) {
+              return FileVisitResult.TERMINATE;
+            }
+            sink.next(new FoundFile(file, attributes));
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+            fail(relativize(file), new FileDepotClientException("failed to read " + file + ": " + e.getMessage(), e));
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult postVisitDirectory(final Path dir, final IOException e) {
+            if (e != null) {
+              fail(relativize(dir), new FileDepotClientException("failed to list " + dir + ": " + e.getMessage(), e));
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+        sink.complete();
+      } catch (final IOException e) {
+        sink.error(e);
+      }
+    }).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * 탐색 스레드가 하위 구독자의 요청 수만큼만 파일을 내보내도록 기다리게 합니다.
+   */
+  private static final class Demand {
+    private long requested;
+    private boolean cancelled;
+
+    synchronized void add(final long n) {
+      requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+      notifyAll();
+    }
+
+    synchronized void cancel() {
+      cancelled = true;
+      notifyAll();
+    }
+
+    synchronized boolean take() throws InterruptedIOException {
+      while (requested == 0 && !cancelled) {
+        try {
+          wait();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("interrupted while walking");
+        }
+      }
+      if (cancelled) {
+        return false;
+      }
+      if (requested != Long.MAX_VALUE) {
+        requested--;
+      }
+      return true;
+    }
+  }
+
+  // ========== 파일 단위 처리 ==========
+
+  private void ingest(final Path path, final BasicFileAttributes attributes) {
+    final String relativePath = relativize(path);
+    try {
+      final long size = attributes.size();
+      final long lastModified = attributes.lastModifiedTime().toMillis();
+
+      final IngestJournal.Entry entry = journal.find(relativePath);
+      if (entry != null && entry.matches(size, lastModified)) {
+        if (entry.state() == IngestJournal.State.CONFIRMED) {
+          skipped.increment();
+          return;
+        }
+        if (entry.state() == IngestJournal.State.UPLOADED && resume(relativePath, path, entry)) {
+          resumed.increment();
+          bytes.add(size);
+          return;
+        }
+      }
+
+      final StorageItemDto item = client.uploadFile(path, path.getFileName().toString(),
+          id -> journal.record(relativePath, IngestJournal.State.PREPARED, id, size, lastModified),
+          id -> journal.record(relativePath, IngestJournal.State.UPLOADED, id, size, lastModified));
+      journal.record(relativePath, IngestJournal.State.CONFIRMED, item.id(), size, lastModified);
+      uploaded.increment();
+      bytes.add(size);
+    } catch (final RuntimeException e) {
+      fail(relativePath, e);
+    }
+  }
+
+  /**
+   * 본문 업로드까지 끝난 파일을 확정합니다.
+   *
+   * <p>
+   * 확정 후 저널 기록 전에 중단된 경우에는 서버가 확정을 거절하므로, 거절된 경우에만 메타데이터를 조회하여
+   * 파일명과 크기가 저널 기록과 같으면 확정된 것으로 봅니다. 네트워크 에러나 5xx처럼 결과를 알 수 없는 실패는
+   * 그대로 던져 이 파일을 실패로 기록하고, 다음 실행에서 확정을 다시 시도합니다.
+   *
+   * @return 확정되었으면 true, 새로 업로드해야 하면 false
+   */
+  private boolean resume(final String relativePath, final Path path, final IngestJournal.Entry entry) {
+    final String fileName = path.getFileName().toString();
+    StorageItemDto item;
+    try {
+      item = client.confirmUpload(entry.id(), fileName);
+    } catch (final RuntimeException e) {
+      if (!isRejection(e)) {
+        throw e;
+      }
+      try {
+        item = client.getFileMetadata(entry.id(), false);
+      } catch (final RuntimeException lookupFailure) {
+        if (isRejection(lookupFailure)) {
+          return false;
+        }
+        throw lookupFailure;
+      }
+      if (item == null || item.size() != entry.size() || !fileName.equals(item.fileName())) {
+        return false;
+      }
+    }
+    journal.record(relativePath, IngestJournal.State.CONFIRMED, item.id(), entry.size(), entry.lastModified());
+    return true;
+  }
+
+  /**
+   * 서버가 요청을 처리하고 거절한 경우 (success=false 또는 4xx).
+   */
+  private static boolean isRejection(final RuntimeException e) {
+    return e instanceof FileDepotException
+        || e.getCause() instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
+  }
+
+  private void fail(final String relativePath, final RuntimeException e) {
+    failed.increment();
+    synchronized (failures) {
+      if (failures.size() < MAX_RETAINED_FAILURES) {
+        failures.put(relativePath, e);
+      }
+    }
+  }
+
+  private String relativize(final Path path) {
+    final StringBuilder sb = new StringBuilder();
+    if (path.equals(root)) {
+      return ".";
+    }
+    for (final Path name : root.relativize(path)) {
+      if (!sb.isEmpty()) {
+        sb.append('/');
+      }
+      sb.append(name);
+    }
+    return sb.toString();
+  }
+
+  // ========== 진행 상황 보고 ==========
+
+  private synchronized void report() {
+    final long now = System.nanoTime();
+    final long files = uploaded.sum() + resumed.sum();
+    final long processedBytes = bytes.sum();
+    final double seconds = Math.max(1, now - reportedAt) / 1e9;
+    final IngestProgress progress = new IngestProgress(
+        files,
+        processedBytes,
+        skipped.sum(),
+        failed.sum(),
+        Duration.ofNanos(now - startedAt),
+        (files - reportedFiles) / seconds,
+        (processedBytes - reportedBytes) / seconds);
+    reportedAt = now;
+    reportedFiles = files;
+    reportedBytes = processedBytes;
+    try {
+      options.progressListener().accept(progress);
+    } catch (final RuntimeException e) {
+      log.warn("ingest progress listener failed: {}", e.getMessage(), e);
+    }
+  }
+}
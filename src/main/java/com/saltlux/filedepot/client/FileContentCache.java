@@ -0,0 +1,331 @@
+package com.saltlux.filedepot.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * 파일 ID를 키로 하는 디스크 기반 파일 컨텐츠 캐시.
+ *
+ * <p>
+ * 확정된 File Depot 파일은 변경되지 않으므로, 한 번 받은 컨텐츠를 로컬 디렉토리에 보관하고
+ * 용량 한도를 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다 (LRU). 용량보다 큰 파일은 보관하지 않습니다.
+ * <ul>
+ * <li>채우기는 임시 파일에 쓴 뒤 rename하므로 부분적으로 쓰인 파일이 노출되지 않습니다.</li>
+ * <li>같은 ID에 대한 동시 miss는 한 번만 다운로드하고 나머지는 그 결과를 기다립니다.</li>
+ * <li>디렉토리에 남아있는 항목은 다시 열 때 최근 수정 시각 순으로 복원됩니다.</li>
+ * </ul>
+ */
+public final class FileContentCache {
+
+  private static final String TEMP_SUFFIX = ".part";
+  private static final int MAX_OPEN_ATTEMPTS = 3;
+
+  private final Path directory;
+  private final long maxBytes;
+  private final Object lock = new Object();
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, CompletableFuture<Path>> loading = new HashMap<>();
+  private long totalBytes;
+
+  /**
+   * 캐시 항목을 임시 파일에 채우는 함수.
+   */
+  @FunctionalInterface
+  interface Loader {
+    void load(Path target) throws IOException;
+  }
+
+  private FileContentCache(final Path directory, final long maxBytes) {
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * 캐시 디렉토리를 열거나 새로 생성합니다.
+   *
+   * @param directory 캐시 디렉토리 (not null, 캐시 전용)
+   * @param maxBytes  최대 보관 용량 (bytes, 0보다 커야 함)
+   * @return 파일 컨텐츠 캐시
+   * @throws IllegalArgumentException directory가 null이거나 maxBytes가 0 이하인 경우
+   * @throws FileDepotClientException 캐시 디렉토리를 읽거나 생성할 수 없는 경우
+   */
+  public static FileContentCache open(final Path directory, final long maxBytes) {
+    if (directory == null) {
+      throw new IllegalArgumentException("directory must not be null");
+    }
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("maxBytes must be positive");
+    }
+    final FileContentCache cache = new FileContentCache(directory, maxBytes);
+    try {
+      cache.load();
+    } catch (final IOException | UncheckedIOException e) {
+      throw new FileDepotClientException("failed to open content cache: " + e.getMessage(), e);
+    }
+    return cache;
+  }
+
+  /**
+   * 캐시된 파일 경로를 반환하고, 없으면 loader로 채웁니다.
+   *
+   * @throws FileDepotClientException 파일이 캐시 용량보다 커서 보관할 수 없는 경우
+   */
+  Path get(final String id, final Loader loader) {
+    final Lookup lookup = lookup(id, loader);
+    if (!lookup.admitted()) {
+      deleteQuietly(lookup.path());
+      throw new FileDepotClientException("file exceeds cache capacity: " + id);
+    }
+    return lookup.path();
+  }
+
+  /**
+   * 캐시된 파일을 읽기용으로 엽니다. 없으면 loader로 채웁니다.
+   *
+   * <p>
+   * 다른 스레드의 용량 초과 제거나 {@link #invalidate}와 겹치지 않도록 lock 안에서 엽니다.
+   * 열린 채널은 이후 항목이 제거되어도 계속 읽을 수 있습니다. 열기 전에 제거되었으면 다시 채웁니다.
+   * 캐시 용량보다 큰 파일은 보관하지 않고 임시 파일을 한 번만 제공합니다.
+   */
+  FileChannel open(final String id, final Loader loader) {
+    for (int attempt = 1; ; attempt++) {
+      final Lookup lookup = lookup(id, loader);
+      if (!lookup.admitted()) {
+        try {
+          return FileChannel.open(lookup.path(), StandardOpenOption.READ);
+        } catch (final IOException e) {
+          throw new FileDepotClientException("failed to open " + id + ": " + e.getMessage(), e);
+        } finally {
+          deleteQuietly(lookup.path());
+        }
+      }
+      synchronized (lock) {
+        if (entries.containsKey(id)) {
+          try {
+            return FileChannel.open(lookup.path(), StandardOpenOption.READ);
+          } catch (final NoSuchFileException e) {
+            totalBytes -= entries.remove(id);
+          } catch (final IOException e) {
+            throw new FileDepotClientException("failed to open cached " + id + ": " + e.getMessage(), e);
+          }
+        }
+      }
+      if (attempt == MAX_OPEN_ATTEMPTS) {
+        throw new FileDepotClientException("evicted while opening: " + id);
+      }
+    }
+  }
+
+  /**
+   * 캐시 조회 결과. admitted가 false이면 path는 캐시에 보관하지 않은 임시 파일이며 호출자가 삭제해야 합니다.
+   */
+  private record Lookup(Path path, boolean admitted) {
+  }
+
+  private Lookup lookup(final String id, final Loader loader) {
+    while (true) {
+      final CompletableFuture<Path> future;
+      final CompletableFuture<Path> pending;
+      synchronized (lock) {
+        if (entries.get(id) != null) {
+          final Path cached = pathOf(id);
+          if (Files.exists(cached)) {
+            return new Lookup(cached, true);
+          }
+          totalBytes -= entries.remove(id);
+        }
+        pending = loading.get(id);
+        if (pending == null) {
+          future = new CompletableFuture<>();
+          loading.put(id, future);
+        } else {
+          future = null;
+        }
+      }
+      if (pending != null) {
+        final Path path = await(pending);
+        if (path != null) {
+          return new Lookup(path, true);
+        }
+        // 용량 초과로 보관되지 않았으므로 직접 받음
+        continue;
+      }
+
+      try {
+        final Lookup lookup = fill(id, loader, future);
+        future.complete(lookup.admitted() ? lookup.path() : null);
+        return lookup;
+      } catch (final IOException e) {
+        final FileDepotClientException failure = new FileDepotClientException(
+            "failed to cache " + id + ": " + e.getMessage(), e);
+        future.completeExceptionally(failure);
+        throw failure;
+      } catch (final RuntimeException e) {
+        future.completeExceptionally(e);
+        throw e;
+      } finally {
+        synchronized (lock) {
+          loading.remove(id, future);
+        }
+      }
+    }
+  }
+
+  /**
+   * 파일 ID에 해당하는 항목을 제거합니다. 채우는 중인 항목은 완료 시 버려집니다.
+   *
+   * @param ids 제거할 파일 UUID 목록
+   */
+  public void invalidate(final Collection<String> ids) {
+    synchronized (lock) {
+      for (final String id : ids) {
+        loading.remove(id);
+        final Long size = entries.remove(id);
+        if (size != null) {
+          totalBytes -= size;
+          deleteQuietly(pathOf(id));
+        }
+      }
+    }
+  }
+
+  /**
+   * @return 현재 보관 중인 용량 (bytes)
+   */
+  public long sizeInBytes() {
+    synchronized (lock) {
+      return totalBytes;
+    }
+  }
+
+  /**
+   * @return 현재 보관 중인 항목 수
+   */
+  public int entryCount() {
+    synchronized (lock) {
+      return entries.size();
+    }
+  }
+
+  // ========== 내부 처리 ==========
+
+  private Lookup fill(final String id, final Loader loader, final CompletableFuture<Path> future)
+      throws IOException {
+    final Path temp = Files.createTempFile(directory, null, TEMP_SUFFIX);
+    boolean handedOver = false;
+    try {
+      loader.load(temp);
+      final long size = Files.size(temp);
+      if (size > maxBytes) {
+        // 보관하면 다른 항목을 모두 밀어내고도 용량을 넘으므로 한 번만 제공
+        handedOver = true;
+        return new Lookup(temp, false);
+      }
+      synchronized (lock) {
+        if (loading.get(id) != future) {
+          throw new FileDepotClientException("invalidated while loading: " + id);
+        }
+        final Path target = pathOf(id);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        entries.put(id, size);
+        totalBytes += size;
+        evict(id);
+        return new Lookup(target, true);
+      }
+    } finally {
+      if (!handedOver) {
+        deleteQuietly(temp);
+      }
+    }
+  }
+
+  /**
+   * 용량 한도를 넘는 동안 가장 오래 사용하지 않은 항목부터 제거합니다. keep 항목은 제거하지 않습니다.
+   */
+  private void evict(final String keep) {
+    final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+    while (totalBytes > maxBytes && iterator.hasNext()) {
+      final Map.Entry<String, Long> eldest = iterator.next();
+      if (eldest.getKey().equals(keep)) {
+        continue;
+      }
+      iterator.remove();
+      totalBytes -= eldest.getValue();
+      deleteQuietly(pathOf(eldest.getKey()));
+    }
+  }
+
+  private void load() throws IOException {
+    Files.createDirectories(directory);
+    final List<Path> files = new ArrayList<>();
+    try (Stream<Path> stream = Files.list(directory)) {
+      stream.filter(Files::isRegularFile).forEach(files::add);
+    }
+    files.sort(Comparator.comparing(FileContentCache::lastModified));
+    synchronized (lock) {
+      for (final Path file : files) {
+        final String name = file.getFileName().toString();
+        if (name.endsWith(TEMP_SUFFIX)) {
+          deleteQuietly(file);
+          continue;
+        }
+        final long size = Files.size(file);
+        entries.put(URLDecoder.decode(name, StandardCharsets.UTF_8), size);
+        totalBytes += size;
+      }
+      evict(null);
+    }
+  }
+
+  private Path pathOf(final String id) {
+    return directory.resolve(URLEncoder.encode(id, StandardCharsets.UTF_8));
+  }
+
+  private static Path await(final CompletableFuture<Path> future) {
+    try {
+      return future.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new FileDepotClientException("unexpected: " + e.getMessage(), e);
+    }
+  }
+
+  private static FileTime lastModified(final Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void deleteQuietly(final Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      // 다음 open 시 정리됨
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.saltlux.filedepot.client;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 일괄 요청 중 일부 ID가 실패한 경우의 에러.
+ * 성공한 결과와 ID별 실패 원인({@link FileDepotException} 또는 {@link FileDepotClientException})을 함께 담는다.
+ */
+public class FileDepotBatchException extends RuntimeException {
+
+  private final transient Map<String, ?> succeeded;
+  private final transient Map<String, RuntimeException> failures;
+
+  public FileDepotBatchException(final Map<String, ?> succeeded, final Map<String, RuntimeException> failures) {
+    super(failures.size() + " of " + (succeeded.size() + failures.size()) + " requests failed");
+    this.succeeded = Collections.unmodifiableMap(new LinkedHashMap<>(succeeded));
+    this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+  }
+
+  /**
+   * @return 성공한 ID별 결과
+   */
+  public Map<String, ?> getSucceeded() {
+    return succeeded;
+  }
+
+  /**
+   * 성공한 결과를 결과 타입으로 반환합니다 (예: {@code getFileMetadataBatch}는 {@code StorageItemDto}).
+   *
+   * @param type 결과 타입
+   * @return 성공한 ID별 결과
+   * @throws ClassCastException 결과가 type이 아닌 경우
+   */
+  public <T> Map<String, T> getSucceeded(final Class<T> type) {
+    final Map<String, T> typed = new LinkedHashMap<>();
+    succeeded.forEach((id, result) -> typed.put(id, type.cast(result)));
+    return Collections.unmodifiableMap(typed);
+  }
+
+  /**
+   * @return 실패한 ID별 원인
+   */
+  public Map<String, RuntimeException> getFailures() {
+    return failures;
+  }
+}
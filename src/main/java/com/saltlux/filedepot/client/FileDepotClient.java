@@ -1,6 +1,12 @@
 package com.saltlux.filedepot.client;
 
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import me.hanju.filedepot.api.dto.ChunkDto;
 import me.hanju.filedepot.api.dto.DownloadUrlResponse;
@@ -17,6 +23,7 @@ import me.hanju.filedepot.api.dto.UploadUrlResponse;
  * <li>{@link FileDepotException} - 서버에서 반환한 에러 (success=false)</li>
  * <li>{@link FileDepotClientException} - 클라이언트 측 에러 (네트워크, 타임아웃 등)</li>
  * </ul>
+ * 여러 ID를 한 번에 처리하는 메서드는 일부 실패 시 {@link FileDepotBatchException}을 던집니다.
  */
 public interface FileDepotClient {
 
@@ -41,6 +48,23 @@ public interface FileDepotClient {
    */
   StorageItemDto confirmUpload(String id, String fileName);
 
+  /**
+   * 로컬 파일을 업로드합니다 (prepareUpload → presigned URL PUT → confirmUpload).
+   *
+   * <p>
+   * 중복 제거 인덱스가 설정된 경우 업로드 전에 컨텐츠 SHA-256 해시를 계산하여,
+   * 동일한 컨텐츠가 이미 업로드되어 있고 서버에 존재하면 업로드 없이 기존 메타데이터를 반환합니다.
+   * 이때 반환되는 fileName은 최초 업로드 시의 파일명입니다.
+   *
+   * @param path     업로드할 파일 경로 (not null, 일반 파일)
+   * @param fileName 원본 파일명 (nullable, 최대 255자. null이면 UUID로 대체)
+   * @return 저장된 파일 메타데이터
+   * @throws IllegalArgumentException path가 null이거나 일반 파일이 아닌 경우
+   * @throws FileDepotException       서버 에러
+   * @throws FileDepotClientException 클라이언트 에러 (파일 읽기 실패 포함)
+   */
+  StorageItemDto uploadFile(Path path, String fileName);
+
   /**
    * 파일 메타데이터를 조회합니다.
    *
@@ -53,6 +77,22 @@ public interface FileDepotClient {
    */
   StorageItemDto getFileMetadata(String id, boolean withContent);
 
+  /**
+   * 여러 파일의 메타데이터를 동시에 조회합니다.
+   *
+   * <p>
+   * ID별 요청을 동시 요청 수 제한 내에서 병렬로 보내므로, 전체 지연은 대략 한 번의 왕복에 가깝습니다.
+   * 중복 ID는 한 번만 조회합니다.
+   *
+   * @param ids         파일 UUID 목록 (not null, not empty, 각 요소 not blank)
+   * @param withContent true이면 파싱된 텍스트 컨텐츠(content 필드)도 포함
+   * @return ID별 파일 메타데이터 (입력 순서 유지)
+   * @throws IllegalArgumentException ids가 null, empty이거나 blank 요소를 포함하는 경우
+   * @throws FileDepotBatchException  일부 ID 조회에 실패한 경우 (성공한 결과와 ID별 원인 포함)
+   * @throws FileDepotClientException 클라이언트 에러
+   */
+  Map<String, StorageItemDto> getFileMetadataBatch(Collection<String> ids, boolean withContent);
+
   /**
    * 파일 다운로드를 위한 presigned URL을 발급받습니다.
    *
@@ -64,8 +104,25 @@ public interface FileDepotClient {
    */
   DownloadUrlResponse getDownloadUrl(String id);
 
+  /**
+   * presigned URL로 파일 컨텐츠를 받아 채널에 씁니다.
+   *
+   * <p>
+   * 컨텐츠 캐시가 설정된 경우 캐시를 먼저 채운 뒤 캐시 파일에서 {@code FileChannel.transferTo}로 복사하며,
+   * 이후 같은 ID에 대한 호출은 서버에 요청하지 않습니다.
+   *
+   * @param id     파일 UUID (not null, not blank)
+   * @param target 컨텐츠를 쓸 blocking 채널 (not null, 호출 후에도 열린 상태로 유지)
+   * @return 쓴 바이트 수
+   * @throws IllegalArgumentException id가 null이거나 blank이거나 target이 null인 경우
+   * @throws FileDepotException       서버 에러 (파일 없음 등)
+   * @throws FileDepotClientException 클라이언트 에러 (채널 쓰기 실패 포함)
+   */
+  long downloadTo(String id, WritableByteChannel target);
+
   /**
    * 파일들을 삭제합니다 (soft delete).
+   * 중복 제거 인덱스와 컨텐츠 캐시가 설정된 경우 해당 항목도 제거합니다.
    *
    * @param ids 삭제할 파일 UUID 목록 (not null, not empty, 각 요소 not blank)
    * @throws IllegalArgumentException ids가 null, empty이거나 blank 요소를 포함하는 경우
@@ -97,4 +154,70 @@ public interface FileDepotClient {
    */
   List<ChunkDto> getChunks(String id, boolean withEmbedding);
 
+  /**
+   * 파일들의 청크 생성(파싱/임베딩 완료)을 비동기로 기다립니다.
+   *
+   * <p>
+   * 하나의 스케줄러 스레드가 모든 대기 중인 파일을 추적하며, 같은 ID를 기다리는 호출자들은 폴링을 공유합니다.
+   * 폴링 간격은 대기 시간이 길어질수록 늘어나고, 청크가 조회되는 즉시 해당 ID의 future가 완료됩니다.
+   * 폴링 중 발생한 에러는 timeout까지 재시도하며, timeout 시 마지막 에러를 원인으로 하는
+   * {@link java.util.concurrent.TimeoutException}으로 완료됩니다.
+   * future를 취소하면 해당 호출자는 즉시 추적에서 제외되며, 남은 호출자가 없으면 폴링도 중단됩니다.
+   * future는 {@link java.util.concurrent.ForkJoinPool#commonPool()}에서 완료되므로,
+   * 오래 걸리는 콜백은 별도 executor를 지정한 {@code *Async} 메서드로 연결하는 것이 좋습니다.
+   *
+   * @param ids     파일 UUID 목록 (not null, not empty, 각 요소 not blank)
+   * @param timeout 최대 대기 시간 (not null, 0보다 커야 함)
+   * @return ID별 청크 목록 future (입력 순서 유지, 임베딩 미포함)
+   * @throws IllegalArgumentException ids가 null, empty이거나 blank 요소를 포함하거나 timeout이 양수가 아닌 경우
+   */
+  Map<String, CompletableFuture<List<ChunkDto>>> awaitChunks(Collection<String> ids, Duration timeout);
+
+  /**
+   * 디렉터리 트리의 모든 일반 파일을 업로드합니다 (심볼릭 링크는 따라가지 않음).
+   *
+   * <p>
+   * 트리는 필요한 만큼만 탐색하며, 파일은 최대 {@link IngestOptions#concurrency()}개씩 동시에 업로드합니다.
+   * 파일별 상대 경로 → 파일 ID → 상태를 {@link IngestJournal}에 기록하므로, 중단 후 같은 저널로 다시 호출하면
+   * 이미 확정된 파일은 건너뛰고 본문 업로드까지 끝난 파일은 확정만 다시 시도합니다.
+   * 크기나 수정 시각이 바뀐 파일은 새로 업로드합니다. 파일명은 경로의 마지막 이름을 사용합니다.
+   * 파일 단위 실패(읽을 수 없는 하위 디렉터리 포함)는 결과에 모으고 계속 진행하며, 실패한 파일은 다음 호출에서 다시 시도합니다.
+   *
+   * @param directory 적재할 디렉터리 (not null, 존재해야 함)
+   * @param options   적재 설정 (not null)
+   * @return 적재 결과
+   * @throws IllegalArgumentException directory가 디렉터리가 아니거나 options가 null이거나,
+   *                                  저널이 다른 디렉터리의 것인 경우
+   * @throws FileDepotClientException 탐색 중단 등 예기치 않은 실패
+   */
+  IngestReport ingestDirectory(Path directory, IngestOptions options);
+
+  /**
+   * 첫 요청 지연을 줄이기 위해 클라이언트를 예열합니다.
+   *
+   * <p>
+   * Netty 이벤트 루프와 DNS resolver를 초기화하고, 응답 타입별 JSON 역직렬화기를 미리 생성하며,
+   * 설정한 수만큼 커넥션을 동시에 열어 풀에 넣어둡니다. 헬스 체크 URI가 있으면 마지막으로 호출하여
+   * 2xx 응답을 확인합니다. 성공하면 {@link #isWarmedUp()}이 true가 됩니다.
+   *
+   * @param options 예열 설정 (not null)
+   * @throws IllegalArgumentException options가 null인 경우
+   * @throws FileDepotClientException 커넥션 실패, 헬스 체크 실패, 제한 시간 초과
+   */
+  void warmUp(WarmUpOptions options);
+
+  /**
+   * {@link #warmUp(WarmUpOptions)}를 비동기로 수행합니다.
+   *
+   * @param options 예열 설정 (not null)
+   * @return 예열 완료 future ({@link FileDepotClientException}으로 실패할 수 있음)
+   * @throws IllegalArgumentException options가 null인 경우
+   */
+  CompletableFuture<Void> warmUpAsync(WarmUpOptions options);
+
+  /**
+   * @return 예열이 한 번 이상 성공했으면 true (readiness 판단용)
+   */
+  boolean isWarmedUp();
+
 }
@@ -0,0 +1,23 @@
+package com.saltlux.filedepot.client;
+
+/**
+ * File Depot 클라이언트 요청 이벤트 리스너.
+ *
+ * <p>
+ * 요청이 끝날 때마다 단계별 소요 시간과 송수신 바이트 수를 담은 {@link RequestEvent}를 전달받습니다.
+ * 콜백은 Netty 이벤트 루프나 호출자 스레드에서 실행되므로 blocking 작업을 하면 안 되며,
+ * 리스너에서 발생한 예외는 요청 결과에 영향을 주지 않습니다.
+ *
+ * @see HttpFileDepotClient.Builder#listener(FileDepotClientListener)
+ * @see LatencyHistogramListener
+ */
+@FunctionalInterface
+public interface FileDepotClientListener {
+
+  /**
+   * 요청이 완료(성공, 실패, 취소)되었을 때 호출됩니다.
+   *
+   * @param event 요청 이벤트
+   */
+  void onRequestCompleted(RequestEvent event);
+}
@@ -1,10 +1,50 @@
 package com.saltlux.filedepot.client;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.CodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
 
 import me.hanju.filedepot.api.dto.BatchDownloadRequest;
 import me.hanju.filedepot.api.dto.ChunkDto;
@@ -16,19 +56,154 @@ import me.hanju.filedepot.api.dto.UploadUrlResponse;
 
 /**
  * HTTP 기반 File Depot 클라이언트 구현.
+ *
+ * <p>
+ * 선택 기능(중복 제거 인덱스, 컨텐츠 캐시, 요청 리스너, 대역폭 제한 등)은 {@link #builder(String)}로 설정합니다.
  */
 public class HttpFileDepotClient implements FileDepotClient {
 
+  private static final int DEFAULT_MAX_CONCURRENCY = 16;
+  private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+  private static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+
+  private static final ParameterizedTypeReference<CommonResponseDto<UploadUrlResponse>> UPLOAD_URL_RESPONSE =
+      new ParameterizedTypeReference<>() {
+      };
+  private static final ParameterizedTypeReference<CommonResponseDto<StorageItemDto>> STORAGE_ITEM_RESPONSE =
+      new ParameterizedTypeReference<>() {
+      };
+  private static final ParameterizedTypeReference<CommonResponseDto<DownloadUrlResponse>> DOWNLOAD_URL_RESPONSE =
+      new ParameterizedTypeReference<>() {
+      };
+  private static final ParameterizedTypeReference<CommonResponseDto<List<ChunkDto>>> CHUNKS_RESPONSE =
+      new ParameterizedTypeReference<>() {
+      };
+  private static final ParameterizedTypeReference<CommonResponseDto<Void>> VOID_RESPONSE =
+      new ParameterizedTypeReference<>() {
+      };
+  private static final List<ParameterizedTypeReference<?>> RESPONSE_TYPES = List.of(
+      UPLOAD_URL_RESPONSE, STORAGE_ITEM_RESPONSE, DOWNLOAD_URL_RESPONSE, CHUNKS_RESPONSE, VOID_RESPONSE);
+  private static final String PRIMING_JSON = "{\"success\":true,\"message\":null,\"data\":null}";
+
   private final WebClient webClient;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final AtomicBoolean warmedUp;
+  private final int maxConcurrency;
+  private final int maxInMemorySize;
+  private final ContentHashIndex dedupIndex;
+  private final FileContentCache contentCache;
+  private final ChunkAwaiter chunkAwaiter;
+  private final FileDepotClientListener listener;
+  private final BandwidthLimiter bandwidthLimiter;
+  private final TransferPriority transferPriority;
+  private final int transferWeight;
 
   public HttpFileDepotClient(final WebClient.Builder webClientBuilder, final String baseUrl) {
-    requireNonBlank(baseUrl, "baseUrl");
-    this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    this(builder(baseUrl).webClientBuilder(webClientBuilder));
   }
 
   public HttpFileDepotClient(final String baseUrl) {
+    this(builder(baseUrl));
+  }
+
+  private HttpFileDepotClient(final Builder builder) {
+    final WebClient.Builder webClientBuilder = builder.webClientBuilder != null
+        ? builder.webClientBuilder
+        : WebClient.builder();
+    HttpClient httpClient = builder.httpClient;
+    if (httpClient == null && (builder.webClientBuilder == null || builder.listener != null)) {
+      // WebClient 기본 커넥터와 같은 설정. 예열을 위해 직접 생성하여 보관
+      httpClient = HttpClient.create().compress(true);
+    }
+    if (httpClient != null) {
+      if (builder.listener != null) {
+        httpClient = RequestTimer.instrument(httpClient);
+      }
+      webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+    // 사용자 WebClient.Builder의 코덱 설정은 objectMapper를 지정한 경우에만 교체
+    final ObjectMapper objectMapper = builder.objectMapper != null || builder.webClientBuilder != null
+        ? builder.objectMapper
+        : Jackson2ObjectMapperBuilder.json().build();
+    if (objectMapper != null) {
+      webClientBuilder.codecs(configurer -> {
+        configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+        configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+      });
+    }
+    // 제한 전송 경로에서 응답을 직접 모을 때도 디코더와 같은 크기 한도를 적용하도록 최종 코덱 설정을 읽어둠
+    final AtomicInteger maxInMemorySize = new AtomicInteger(DEFAULT_MAX_IN_MEMORY_SIZE);
+    webClientBuilder.codecs(configurer -> {
+      if (configurer.defaultCodecs() instanceof CodecConfigurer.DefaultCodecConfig config
+          && config.maxInMemorySize() != null) {
+        maxInMemorySize.set(config.maxInMemorySize());
+      }
+    });
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.warmedUp = new AtomicBoolean();
+    this.listener = builder.listener;
+    this.webClient = webClientBuilder.baseUrl(builder.baseUrl).build();
+    this.maxInMemorySize = maxInMemorySize.get();
+    this.maxConcurrency = builder.maxConcurrency;
+    this.dedupIndex = builder.dedupIndex;
+    this.contentCache = builder.contentCache;
+    this.chunkAwaiter = new ChunkAwaiter(
+        id -> getChunksMono(id, false).onErrorMap(HttpFileDepotClient::toClientException),
+        maxConcurrency,
+        ForkJoinPool.commonPool());
+    this.bandwidthLimiter = builder.bandwidthLimiter;
+    this.transferPriority = TransferPriority.INTERACTIVE;
+    this.transferWeight = 1;
+  }
+
+  private HttpFileDepotClient(
+      final HttpFileDepotClient source,
+      final TransferPriority transferPriority,
+      final int transferWeight) {
+    this.webClient = source.webClient;
+    this.httpClient = source.httpClient;
+    this.objectMapper = source.objectMapper;
+    this.warmedUp = source.warmedUp;
+    this.maxConcurrency = source.maxConcurrency;
+    this.maxInMemorySize = source.maxInMemorySize;
+    this.dedupIndex = source.dedupIndex;
+    this.contentCache = source.contentCache;
+    this.chunkAwaiter = source.chunkAwaiter;
+    this.listener = source.listener;
+    this.bandwidthLimiter = source.bandwidthLimiter;
+    this.transferPriority = transferPriority;
+    this.transferWeight = transferWeight;
+  }
+
+  /**
+   * 클라이언트 빌더를 생성합니다.
+   *
+   * @param baseUrl File Depot 서버 URL (not null, not blank)
+   * @return 빌더
+   * @throws IllegalArgumentException baseUrl이 null이거나 blank인 경우
+   */
+  public static Builder builder(final String baseUrl) {
     requireNonBlank(baseUrl, "baseUrl");
-    this.webClient = WebClient.builder().baseUrl(baseUrl).build();
+    return new Builder(baseUrl);
+  }
+
+  /**
+   * 업로드/다운로드 본문 스트림에 다른 대역폭 우선순위를 적용하는 클라이언트를 반환합니다.
+   * 커넥션, 캐시, 인덱스 등 나머지 설정은 이 클라이언트와 공유합니다. 대역폭 제한기가 없으면 효과가 없습니다.
+   *
+   * @param priority 우선순위 클래스 (not null)
+   * @param weight   같은 클래스 내 동시 전송 간 대역폭 가중치 (0보다 커야 함, 기본값 1)
+   * @return 우선순위가 적용된 클라이언트
+   * @throws IllegalArgumentException priority가 null이거나 weight가 0 이하인 경우
+   */
+  public HttpFileDepotClient withTransferPriority(final TransferPriority priority, final int weight) {
+    requireNonNull(priority, "priority");
+    if (weight <= 0) {
+      throw new IllegalArgumentException("weight must be positive");
+    }
+    return new HttpFileDepotClient(this, priority, weight);
   }
 
   @Override
@@ -36,8 +211,7 @@ public class HttpFileDepotClient implements FileDepotClient {
     final CommonResponseDto<UploadUrlResponse> response = doPost(
         "/api/files/prepare-upload",
         null,
-        new ParameterizedTypeReference<>() {
-        });
+        UPLOAD_URL_RESPONSE);
     return unwrap(response);
   }
 
@@ -49,11 +223,45 @@ public class HttpFileDepotClient implements FileDepotClient {
     final CommonResponseDto<StorageItemDto> response = doPost(
         "/api/files/confirm-upload",
         request,
-        new ParameterizedTypeReference<>() {
-        });
+        STORAGE_ITEM_RESPONSE);
     return unwrap(response);
   }
 
+  @Override
+  public StorageItemDto uploadFile(final Path path, final String fileName) {
+    return uploadFile(path, fileName, id -> {
+    }, id -> {
+    });
+  }
+
+  /**
+   * {@link #uploadFile(Path, String)}와 같으며, 업로드 URL 발급 직후와 본문 업로드 직후에 파일 ID를 전달합니다.
+   * 중복 제거 인덱스로 기존 파일을 재사용하면 콜백은 호출되지 않습니다.
+   */
+  StorageItemDto uploadFile(final Path path, final String fileName,
+      final Consumer<String> onPrepared, final Consumer<String> onUploaded) {
+    requireRegularFile(path, "path");
+    requireMaxLength(fileName, 255, "fileName");
+
+    final String hash = dedupIndex != null ? hashContent(path) : null;
+    if (hash != null) {
+      final StorageItemDto existing = findDuplicate(hash);
+      if (existing != null) {
+        return existing;
+      }
+    }
+
+    final UploadUrlResponse upload = prepareUpload();
+    onPrepared.accept(upload.id());
+    doPutFile(upload.uploadUrl(), path);
+    onUploaded.accept(upload.id());
+    final StorageItemDto item = confirmUpload(upload.id(), fileName);
+    if (hash != null) {
+      dedupIndex.put(hash, item.id());
+    }
+    return item;
+  }
+
   @Override
   public StorageItemDto getFileMetadata(final String id, final boolean withContent) {
     requireNonBlank(id, "id");
@@ -62,32 +270,114 @@ public class HttpFileDepotClient implements FileDepotClient {
         : "/api/files/{id}";
     final CommonResponseDto<StorageItemDto> response = doGet(
         uri,
-        new ParameterizedTypeReference<>() {
-        },
+        STORAGE_ITEM_RESPONSE,
         id);
     return unwrap(response);
   }
 
+  @Override
+  public Map<String, StorageItemDto> getFileMetadataBatch(final Collection<String> ids, final boolean withContent) {
+    final List<String> idList = ids != null ? new ArrayList<>(ids) : null;
+    requireNonEmptyIds(idList, "ids");
+    final List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(idList));
+
+    final Map<String, StorageItemDto> found = new ConcurrentHashMap<>();
+    final Map<String, RuntimeException> errors = new ConcurrentHashMap<>();
+    try {
+      Flux.fromIterable(distinctIds)
+          .flatMap(id -> getFileMetadataMono(id, withContent)
+              .switchIfEmpty(Mono.error(() -> new FileDepotException("No data for " + id)))
+              .doOnNext(item -> found.put(id, item))
+              .onErrorResume(e -> {
+                errors.put(id, toClientException(e));
+                return Mono.empty();
+              }), maxConcurrency)
+          .then()
+          .block();
+    } catch (final Exception e) {
+      throw new FileDepotClientException("unexpected: " + e.getMessage(), e);
+    }
+
+    final Map<String, StorageItemDto> results = new LinkedHashMap<>();
+    final Map<String, RuntimeException> failures = new LinkedHashMap<>();
+    for (final String id : distinctIds) {
+      if (found.containsKey(id)) {
+        results.put(id, found.get(id));
+      } else if (errors.containsKey(id)) {
+        failures.put(id, errors.get(id));
+      }
+    }
+    if (!failures.isEmpty()) {
+      throw new FileDepotBatchException(results, failures);
+    }
+    return results;
+  }
+
   @Override
   public DownloadUrlResponse getDownloadUrl(final String id) {
     requireNonBlank(id, "id");
     final CommonResponseDto<DownloadUrlResponse> response = doGet(
         "/api/files/{id}/download-url",
-        new ParameterizedTypeReference<>() {
-        },
+        DOWNLOAD_URL_RESPONSE,
         id);
     return unwrap(response);
   }
 
+  @Override
+  public long downloadTo(final String id, final WritableByteChannel target) {
+    requireNonBlank(id, "id");
+    requireNonNull(target, "target");
+    if (contentCache == null) {
+      return doGetToChannel(getDownloadUrl(id).downloadUrl(), target);
+    }
+    try (FileChannel source = contentCache.open(id, file -> doGetToFile(getDownloadUrl(id).downloadUrl(), file))) {
+      final long size = source.size();
+      long position = 0;
+      while (position < size) {
+        position += source.transferTo(position, size - position, target);
+      }
+      return size;
+    } catch (final IOException e) {
+      throw new FileDepotClientException("failed to transfer " + id + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 컨텐츠 캐시에 있는 파일 경로를 반환합니다. 캐시에 없으면 presigned URL로 받아 채웁니다.
+   *
+   * <p>
+   * 반환된 파일은 이후 캐시 용량 초과나 {@link #deleteFiles(List)}로 제거될 수 있으므로,
+   * 오래 보관하려면 복사하거나 바로 열어서 사용해야 합니다.
+   *
+   * @param id 파일 UUID (not null, not blank)
+   * @return 캐시된 파일 경로
+   * @throws IllegalArgumentException id가 null이거나 blank인 경우
+   * @throws IllegalStateException    컨텐츠 캐시가 설정되지 않은 경우
+   * @throws FileDepotException       서버 에러 (파일 없음 등)
+   * @throws FileDepotClientException 클라이언트 에러 (캐시 용량보다 큰 파일 포함)
+   */
+  public Path getCachedFile(final String id) {
+    requireNonBlank(id, "id");
+    if (contentCache == null) {
+      throw new IllegalStateException("content cache is not configured");
+    }
+    return contentCache.get(id, file -> doGetToFile(getDownloadUrl(id).downloadUrl(), file));
+  }
+
   @Override
   public void deleteFiles(final List<String> ids) {
     requireNonEmptyIds(ids, "ids");
     final CommonResponseDto<Void> response = doPost(
         "/api/files/delete",
         ids,
-        new ParameterizedTypeReference<>() {
-        });
+        VOID_RESPONSE);
     unwrap(response);
+    if (dedupIndex != null) {
+      dedupIndex.removeIds(ids);
+    }
+    if (contentCache != null) {
+      contentCache.invalidate(ids);
+    }
   }
 
   @Override
@@ -105,12 +395,105 @@ public class HttpFileDepotClient implements FileDepotClient {
         : "/api/files/{id}/chunks";
     final CommonResponseDto<List<ChunkDto>> response = doGet(
         uri,
-        new ParameterizedTypeReference<>() {
-        },
+        CHUNKS_RESPONSE,
         id);
     return unwrap(response);
   }
 
+  @Override
+  public Map<String, CompletableFuture<List<ChunkDto>>> awaitChunks(
+      final Collection<String> ids,
+      final Duration timeout) {
+    final List<String> idList = ids != null ? new ArrayList<>(ids) : null;
+    requireNonEmptyIds(idList, "ids");
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("timeout must be positive");
+    }
+    final Map<String, CompletableFuture<List<ChunkDto>>> futures = new LinkedHashMap<>();
+    for (final String id : idList) {
+      futures.computeIfAbsent(id, key -> chunkAwaiter.await(key, timeout));
+    }
+    return futures;
+  }
+
+  @Override
+  public IngestReport ingestDirectory(final Path directory, final IngestOptions options) {
+    requireDirectory(directory, "directory");
+    requireNonNull(options, "options");
+    return new DirectoryIngester(this, directory.toAbsolutePath().normalize(), options).run();
+  }
+
+  @Override
+  public void warmUp(final WarmUpOptions options) {
+    requireNonNull(options, "options");
+    try {
+      warmUpMono(options).block();
+    } catch (final Exception e) {
+      throw toClientException(e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> warmUpAsync(final WarmUpOptions options) {
+    requireNonNull(options, "options");
+    return warmUpMono(options)
+        .onErrorMap(HttpFileDepotClient::toClientException)
+        .toFuture();
+  }
+
+  @Override
+  public boolean isWarmedUp() {
+    return warmedUp.get();
+  }
+
+  // ========== 예열 ==========
+
+  private Mono<Void> warmUpMono(final WarmUpOptions options) {
+    final Mono<Void> eventLoops = httpClient != null ? httpClient.warmup() : Mono.empty();
+    final Mono<Void> codecs = Mono.fromRunnable(this::primeCodecs)
+        .subscribeOn(Schedulers.boundedElastic())
+        .then();
+    // 동시에 요청해야 풀이 요청 수만큼 커넥션을 새로 연다. 응답 상태는 무관
+    final Mono<Void> connections = Flux.range(0, options.connections())
+        .flatMap(i -> webClient.head()
+            .uri("/")
+            .exchangeToMono(ClientResponse::releaseBody), Math.max(1, options.connections()))
+        .then();
+    final Mono<Void> healthProbe = options.healthProbeUri() != null
+        ? webClient.get().uri(options.healthProbeUri()).retrieve().toBodilessEntity().then()
+        : Mono.empty();
+    return Mono.when(eventLoops, codecs)
+        .then(connections)
+        .then(healthProbe)
+        .timeout(options.timeout())
+        .doOnSuccess(ignored -> warmedUp.set(true));
+  }
+
+  /**
+   * 응답 타입별 역직렬화기와 요청 본문 직렬화기를 미리 생성합니다.
+   * 사용자 WebClient.Builder의 코덱을 그대로 쓰는 경우에는 ObjectMapper를 알 수 없으므로 건너뜁니다.
+   */
+  private void primeCodecs() {
+    if (objectMapper == null) {
+      return;
+    }
+    for (final ParameterizedTypeReference<?> type : RESPONSE_TYPES) {
+      final JavaType javaType = objectMapper.constructType(type.getType());
+      try {
+        objectMapper.readerFor(javaType).readValue(PRIMING_JSON);
+      } catch (final IOException e) {
+        // 역직렬화기는 파싱 전에 생성되어 캐시되므로 무시
+      }
+    }
+    try {
+      objectMapper.writeValueAsBytes(new ConfirmUploadRequest("warm-up", null));
+      objectMapper.writeValueAsBytes(new BatchDownloadRequest(List.of("warm-up")));
+      objectMapper.writeValueAsBytes(List.of("warm-up"));
+    } catch (final JsonProcessingException e) {
+      // 직렬화기는 쓰기 전에 생성되어 캐시되므로 무시
+    }
+  }
+
   // ========== HTTP 요청 메서드 ==========
 
   private <T> CommonResponseDto<T> doGet(
@@ -118,11 +501,7 @@ public class HttpFileDepotClient implements FileDepotClient {
       final ParameterizedTypeReference<CommonResponseDto<T>> typeRef,
       final Object... uriVariables) {
     try {
-      return webClient.get()
-          .uri(uri, uriVariables)
-          .retrieve()
-          .bodyToMono(typeRef)
-          .block();
+      return getMono(uri, typeRef, uriVariables).block();
     } catch (final FileDepotException e) {
       throw e;
     } catch (final Exception e) {
@@ -130,6 +509,39 @@ public class HttpFileDepotClient implements FileDepotClient {
     }
   }
 
+  private <T> Mono<CommonResponseDto<T>> getMono(
+      final String uri,
+      final ParameterizedTypeReference<CommonResponseDto<T>> typeRef,
+      final Object... uriVariables) {
+    return observe("GET", uri, requireSuccess(webClient.get()
+        .uri(uri, uriVariables)
+        .retrieve()
+        .bodyToMono(typeRef)));
+  }
+
+  private <T> Mono<T> getDataMono(
+      final String uri,
+      final ParameterizedTypeReference<CommonResponseDto<T>> typeRef,
+      final Object... uriVariables) {
+    return getMono(uri, typeRef, uriVariables)
+        .switchIfEmpty(Mono.error(() -> new FileDepotException("No response from server")))
+        .flatMap(response -> Mono.justOrEmpty(unwrap(response)));
+  }
+
+  private Mono<StorageItemDto> getFileMetadataMono(final String id, final boolean withContent) {
+    final String uri = withContent
+        ? "/api/files/{id}?withContent=true"
+        : "/api/files/{id}";
+    return getDataMono(uri, STORAGE_ITEM_RESPONSE, id);
+  }
+
+  private Mono<List<ChunkDto>> getChunksMono(final String id, final boolean withEmbedding) {
+    final String uri = withEmbedding
+        ? "/api/files/{id}/chunks?withEmbedding=true"
+        : "/api/files/{id}/chunks";
+    return getDataMono(uri, CHUNKS_RESPONSE, id);
+  }
+
   private <T> CommonResponseDto<T> doPost(
       final String uri,
       final Object body,
@@ -139,15 +551,10 @@ public class HttpFileDepotClient implements FileDepotClient {
           .uri(uri)
           .contentType(MediaType.APPLICATION_JSON);
 
-      if (body != null) {
-        return spec.bodyValue(body)
-            .retrieve()
-            .bodyToMono(typeRef)
-            .block();
-      }
-      return spec.retrieve()
-          .bodyToMono(typeRef)
-          .block();
+      final Mono<CommonResponseDto<T>> request = body != null
+          ? spec.bodyValue(body).retrieve().bodyToMono(typeRef)
+          : spec.retrieve().bodyToMono(typeRef);
+      return observe("POST", uri, requireSuccess(request)).block();
     } catch (final FileDepotException e) {
       throw e;
     } catch (final Exception e) {
@@ -157,12 +564,21 @@ public class HttpFileDepotClient implements FileDepotClient {
 
   private byte[] doPostForBytes(final String uri, final Object body) {
     try {
-      return webClient.post()
+      final WebClient.ResponseSpec response = webClient.post()
           .uri(uri)
           .contentType(MediaType.APPLICATION_JSON)
           .bodyValue(body)
-          .retrieve()
-          .bodyToMono(byte[].class)
+          .retrieve();
+      if (bandwidthLimiter == null) {
+        return observe("POST", uri, response.bodyToMono(byte[].class)).block();
+      }
+      return observe("POST", uri, DataBufferUtils.join(throttle(response.bodyToFlux(DataBuffer.class)), maxInMemorySize)
+          .map(buffer -> {
+            final byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            return bytes;
+          }))
           .block();
     } catch (final FileDepotException e) {
       throw e;
@@ -171,6 +587,105 @@ public class HttpFileDepotClient implements FileDepotClient {
     }
   }
 
+  private void doPutFile(final String uploadUrl, final Path path) {
+    try {
+      final WebClient.RequestBodySpec spec = webClient.put()
+          .uri(URI.create(uploadUrl))
+          .contentType(MediaType.APPLICATION_OCTET_STREAM);
+      // 제한이 없으면 FileSystemResource로 zero-copy 전송, 있으면 버퍼 단위로 흘려보냄
+      final WebClient.RequestHeadersSpec<?> request = bandwidthLimiter == null
+          ? spec.body(BodyInserters.fromResource(new FileSystemResource(path)))
+          : spec.contentLength(Files.size(path))
+              .body(BodyInserters.fromDataBuffers(throttle(DataBufferUtils.read(
+                  path, DefaultDataBufferFactory.sharedInstance, STREAM_BUFFER_SIZE))));
+      observe("PUT", "{uploadUrl}", request
+          .retrieve()
+          .toBodilessEntity())
+          .block();
+    } catch (final Exception e) {
+      throw new FileDepotClientException("unexpected: " + e.getMessage(), e);
+    }
+  }
+
+  private void doGetToFile(final String downloadUrl, final Path file) {
+    try {
+      observe("GET", "{downloadUrl}", DataBufferUtils.write(downloadBody(downloadUrl), file)).block();
+    } catch (final Exception e) {
+      throw new FileDepotClientException("unexpected: " + e.getMessage(), e);
+    }
+  }
+
+  private long doGetToChannel(final String downloadUrl, final WritableByteChannel channel) {
+    final AtomicLong written = new AtomicLong();
+    try {
+      // 호출자 채널은 blocking일 수 있으므로 이벤트 루프나 대역폭 제한기 스레드가 아닌 곳에서 쓴다
+      observe("GET", "{downloadUrl}", DataBufferUtils.write(
+          downloadBody(downloadUrl)
+              .doOnNext(buffer -> written.addAndGet(buffer.readableByteCount()))
+              .publishOn(Schedulers.boundedElastic()),
+          channel)
+          .map(DataBufferUtils::release)
+          .then())
+          .block();
+      return written.get();
+    } catch (final Exception e) {
+      throw new FileDepotClientException("unexpected: " + e.getMessage(), e);
+    }
+  }
+
+  private Flux<DataBuffer> downloadBody(final String downloadUrl) {
+    return throttle(webClient.get()
+        .uri(URI.create(downloadUrl))
+        .retrieve()
+        .bodyToFlux(DataBuffer.class));
+  }
+
+  private Flux<DataBuffer> throttle(final Flux<DataBuffer> body) {
+    return bandwidthLimiter != null
+        ? bandwidthLimiter.throttle(body, transferPriority, transferWeight)
+        : body;
+  }
+
+  private <T> Mono<T> observe(final String method, final String uriTemplate, final Mono<T> request) {
+    return RequestTimer.observe(listener, method, uriTemplate, request);
+  }
+
+  // ========== 중복 제거 ==========
+
+  private static String hashContent(final Path path) {
+    try {
+      return ContentHashIndex.sha256(path);
+    } catch (final IOException e) {
+      throw new FileDepotClientException("failed to read " + path + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 인덱스에 등록된 파일이 서버에 아직 존재하면 메타데이터를 반환합니다.
+   * 서버가 파일이 없다고 응답한 경우(404, 410)에만 매핑을 인덱스에서 제거하며,
+   * 인증 실패나 rate limit 같은 다른 4xx는 그대로 던집니다.
+   */
+  private StorageItemDto findDuplicate(final String hash) {
+    final String id = dedupIndex.find(hash);
+    if (id == null) {
+      return null;
+    }
+    try {
+      return getFileMetadata(id, false);
+    } catch (final FileDepotException e) {
+      dedupIndex.removeIds(List.of(id));
+      return null;
+    } catch (final FileDepotClientException e) {
+      if (e.getCause() instanceof WebClientResponseException responseException
+          && (responseException.getStatusCode().value() == 404
+              || responseException.getStatusCode().value() == 410)) {
+        dedupIndex.removeIds(List.of(id));
+        return null;
+      }
+      throw e;
+    }
+  }
+
   // ========== 응답 처리 ==========
 
   private <T> T unwrap(final CommonResponseDto<T> response) {
@@ -183,6 +698,27 @@ public class HttpFileDepotClient implements FileDepotClient {
     }
   }
 
+  /**
+   * 빈 응답과 {@code success=false} 응답을 {@link FileDepotException}으로 바꿉니다.
+   * 요청 리스너가 서버 에러를 구분할 수 있도록 {@link #observe} 안쪽에 적용합니다.
+   */
+  private static <T> Mono<CommonResponseDto<T>> requireSuccess(final Mono<CommonResponseDto<T>> response) {
+    return response
+        .switchIfEmpty(Mono.error(() -> new FileDepotException("No response from server")))
+        .flatMap(body -> body.success()
+            ? Mono.just(body)
+            : Mono.error(new FileDepotException(body.message())));
+  }
+
+  private static RuntimeException toClientException(final Throwable e) {
+    if (e instanceof FileDepotException depotException) {
+      return depotException;
+    } else if (e instanceof FileDepotClientException clientException) {
+      return clientException;
+    }
+    return new FileDepotClientException("unexpected: " + e.getMessage(), e);
+  }
+
   // ========== 파라미터 검증 ==========
 
   private static void requireNonBlank(final String value, final String paramName) {
@@ -191,6 +727,24 @@ public class HttpFileDepotClient implements FileDepotClient {
     }
   }
 
+  private static void requireNonNull(final Object value, final String paramName) {
+    if (value == null) {
+      throw new IllegalArgumentException(paramName + " must not be null");
+    }
+  }
+
+  private static void requireRegularFile(final Path path, final String paramName) {
+    if (path == null || !Files.isRegularFile(path)) {
+      throw new IllegalArgumentException(paramName + " must be an existing regular file");
+    }
+  }
+
+  private static void requireDirectory(final Path path, final String paramName) {
+    if (path == null || !Files.isDirectory(path)) {
+      throw new IllegalArgumentException(paramName + " must be an existing directory");
+    }
+  }
+
   private static void requireMaxLength(final String value, final int maxLength, final String paramName) {
     if (value != null && value.length() > maxLength) {
       throw new IllegalArgumentException(paramName + " must not exceed " + maxLength + " characters");
@@ -208,4 +762,129 @@ public class HttpFileDepotClient implements FileDepotClient {
       }
     }
   }
+
+  // ========== 빌더 ==========
+
+  /**
+   * {@link HttpFileDepotClient} 빌더.
+   */
+  public static final class Builder {
+
+    private final String baseUrl;
+    private WebClient.Builder webClientBuilder;
+    private HttpClient httpClient;
+    private FileDepotClientListener listener;
+    private ContentHashIndex dedupIndex;
+    private FileContentCache contentCache;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private BandwidthLimiter bandwidthLimiter;
+    private ObjectMapper objectMapper;
+
+    private Builder(final String baseUrl) {
+      this.baseUrl = baseUrl;
+    }
+
+    /**
+     * @param webClientBuilder 타임아웃 등 커스텀 설정을 위한 WebClient 빌더 (nullable)
+     * @return this
+     */
+    public Builder webClientBuilder(final WebClient.Builder webClientBuilder) {
+      this.webClientBuilder = webClientBuilder;
+      return this;
+    }
+
+    /**
+     * Reactor Netty HttpClient를 설정합니다 (커넥션 풀, 타임아웃 등).
+     * 설정하면 webClientBuilder의 커넥터를 이 HttpClient 기반 커넥터로 교체합니다.
+     *
+     * @param httpClient Reactor Netty HttpClient (nullable)
+     * @return this
+     */
+    public Builder httpClient(final HttpClient httpClient) {
+      this.httpClient = httpClient;
+      return this;
+    }
+
+    /**
+     * 요청별 단계 소요 시간을 전달받을 리스너를 설정합니다. 설정하지 않으면 계측하지 않습니다.
+     *
+     * <p>
+     * 리스너를 설정하면 계측 콜백을 등록한 HttpClient로 커넥터를 교체하므로,
+     * 커넥션 설정은 webClientBuilder의 커넥터 대신 {@link #httpClient(HttpClient)}로 전달해야 합니다.
+     *
+     * @param listener 요청 리스너 (nullable)
+     * @return this
+     */
+    public Builder listener(final FileDepotClientListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * 업로드 중복 제거 인덱스를 설정합니다. 설정하지 않으면 중복 제거를 하지 않습니다.
+     *
+     * @param dedupIndex 중복 제거 인덱스 (nullable)
+     * @return this
+     */
+    public Builder dedupIndex(final ContentHashIndex dedupIndex) {
+      this.dedupIndex = dedupIndex;
+      return this;
+    }
+
+    /**
+     * 다운로드 컨텐츠 캐시를 설정합니다. 설정하지 않으면 매번 presigned URL로 받습니다.
+     *
+     * @param contentCache 파일 컨텐츠 캐시 (nullable)
+     * @return this
+     */
+    public Builder contentCache(final FileContentCache contentCache) {
+      this.contentCache = contentCache;
+      return this;
+    }
+
+    /**
+     * 일괄 조회 등에서 동시에 보내는 최대 요청 수를 설정합니다. 기본값은 16입니다.
+     *
+     * @param maxConcurrency 최대 동시 요청 수 (0보다 커야 함)
+     * @return this
+     * @throws IllegalArgumentException maxConcurrency가 0 이하인 경우
+     */
+    public Builder maxConcurrency(final int maxConcurrency) {
+      if (maxConcurrency <= 0) {
+        throw new IllegalArgumentException("maxConcurrency must be positive");
+      }
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * 업로드/다운로드 본문 스트림에 적용할 대역폭 제한기를 설정합니다.
+     * 기본 우선순위는 {@link TransferPriority#INTERACTIVE}이며, {@link HttpFileDepotClient#withTransferPriority}로 바꿀 수 있습니다.
+     *
+     * @param bandwidthLimiter 대역폭 제한기 (nullable, 여러 클라이언트가 공유 가능)
+     * @return this
+     */
+    public Builder bandwidthLimiter(final BandwidthLimiter bandwidthLimiter) {
+      this.bandwidthLimiter = bandwidthLimiter;
+      return this;
+    }
+
+    /**
+     * JSON 요청/응답 코덱에 사용할 ObjectMapper를 설정합니다.
+     * 기본값은 WebFlux 기본값과 같은 {@code Jackson2ObjectMapperBuilder.json().build()}이며,
+     * {@link #webClientBuilder}를 지정하고 ObjectMapper를 지정하지 않으면 해당 빌더의 코덱 설정을 그대로 사용합니다
+     * (이 경우 {@link HttpFileDepotClient#warmUp}은 코덱을 예열하지 않습니다).
+     *
+     * @param objectMapper ObjectMapper (nullable)
+     * @return this
+     */
+    public Builder objectMapper(final ObjectMapper objectMapper) {
+      this.objectMapper = objectMapper;
+      return this;
+    }
+
+    public HttpFileDepotClient build() {
+      return new HttpFileDepotClient(this);
+    }
+  }
 }
@@ -0,0 +1,280 @@
+package com.saltlux.filedepot.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 디렉터리 적재({@link FileDepotClient#ingestDirectory})의 진행 상태를 로컬 파일에 영속화하는 체크포인트 저널.
+ *
+ * <p>
+ * 저널 파일은 append-only 로그이며 한 줄에 하나의 레코드를 탭으로 구분하여 기록합니다:
+ * <ul>
+ * <li>{@code R\t<root>} - 적재 대상 디렉터리 (첫 레코드)</li>
+ * <li>{@code P\t<id>\t<size>\t<mtime>\t<path>} - 업로드 URL 발급 완료 ({@link State#PREPARED})</li>
+ * <li>{@code U\t<id>\t<size>\t<mtime>\t<path>} - 본문 업로드 완료 ({@link State#UPLOADED})</li>
+ * <li>{@code C\t<id>\t<size>\t<mtime>\t<path>} - 업로드 확정 완료 ({@link State#CONFIRMED})</li>
+ * </ul>
+ * path는 루트 기준 상대 경로({@code /} 구분)이며 역슬래시, 탭, 줄바꿈은 escape합니다.
+ * 열 때 로그를 재생하여 경로별 마지막 상태를 구성하며, 레코드 수가 경로 수의 2배를 넘으면 로그를 새로 작성합니다.
+ * 비정상 종료로 잘린 마지막 줄은 무시하고 로그를 새로 작성합니다.
+ *
+ * <p>
+ * {@link State#CONFIRMED} 레코드와 닫기 직전의 로그는 디스크에 강제로 기록(fsync)하므로 전원 장애 후에도 남습니다.
+ * PREPARED/UPLOADED 레코드는 OS 버퍼까지만 기록하므로 프로세스 비정상 종료에는 안전하지만,
+ * 전원 장애 시 유실될 수 있으며 이 경우 해당 파일을 다시 업로드합니다.
+ */
+public final class IngestJournal implements Closeable {
+
+  /**
+   * 파일별 적재 상태.
+   */
+  public enum State {
+
+    /** 업로드 URL을 발급받았으나 본문 업로드 완료 여부는 알 수 없음 */
+    PREPARED('P'),
+
+    /** 본문 업로드는 끝났으나 확정 여부는 알 수 없음 */
+    UPLOADED('U'),
+
+    /** 업로드 확정 완료 */
+    CONFIRMED('C');
+
+    private final char code;
+
+    State(final char code) {
+      this.code = code;
+    }
+
+    private static State of(final char code) {
+      for (final State state : values()) {
+        if (state.code == code) {
+          return state;
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * 경로별 마지막 기록.
+   *
+   * @param state        적재 상태
+   * @param id           파일 UUID
+   * @param size         기록 시점의 파일 크기
+   * @param lastModified 기록 시점의 파일 수정 시각 (epoch millis)
+   */
+  public record Entry(State state, String id, long size, long lastModified) {
+
+    /**
+     * @param size         현재 파일 크기
+     * @param lastModified 현재 파일 수정 시각 (epoch millis)
+     * @return 기록 이후 파일이 바뀌지 않았으면 true
+     */
+    public boolean matches(final long size, final long lastModified) {
+      return this.size == size && this.lastModified == lastModified;
+    }
+  }
+
+  private final Path file;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private String root;
+  private AppendLog log;
+
+  private IngestJournal(final Path file) {
+    this.file = file;
+  }
+
+  /**
+   * 저널 파일을 열거나 새로 생성합니다.
+   *
+   * @param file 저널 파일 경로 (not null, 적재 대상 디렉터리 밖에 두어야 함)
+   * @return 체크포인트 저널
+   * @throws IllegalArgumentException file이 null인 경우
+   * @throws FileDepotClientException 저널 파일을 읽거나 쓸 수 없는 경우
+   */
+  public static IngestJournal open(final Path file) {
+    if (file == null) {
+      throw new IllegalArgumentException("file must not be null");
+    }
+    final IngestJournal journal = new IngestJournal(file);
+    try {
+      journal.load();
+    } catch (final IOException | UncheckedIOException e) {
+      throw new FileDepotClientException("failed to open ingest journal: " + e.getMessage(), e);
+    }
+    return journal;
+  }
+
+  /**
+   * 상대 경로의 마지막 기록을 조회합니다.
+   *
+   * @param relativePath 루트 기준 상대 경로 ({@code /} 구분)
+   * @return 마지막 기록, 없으면 null
+   */
+  public synchronized Entry find(final String relativePath) {
+    return entries.get(relativePath);
+  }
+
+  /**
+   * @return 기록된 경로 수
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return 적재 대상 디렉터리 (아직 적재한 적이 없으면 null)
+   */
+  public synchronized String root() {
+    return root;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (log != null) {
+      try {
+        log.force();
+      } finally {
+        log.close();
+        log = null;
+      }
+    }
+  }
+
+  // ========== 기록 ==========
+
+  /**
+   * 저널의 적재 대상 디렉터리를 확인하고, 처음이면 기록합니다.
+   *
+   * @throws IllegalArgumentException 다른 디렉터리의 저널인 경우
+   */
+  synchronized void bindRoot(final Path directory) {
+    final String path = directory.toString();
+    if (root == null) {
+      root = path;
+      force(append("R\t" + escape(path)));
+    } else if (!root.equals(path)) {
+      throw new IllegalArgumentException("journal belongs to another directory: " + root);
+    }
+  }
+
+  /**
+   * 상태를 기록합니다. {@link State#CONFIRMED} 레코드는 디스크에 강제로 기록한 뒤 반환하며,
+   * 동시에 기록하는 스레드들이 기다리지 않도록 강제 기록은 lock 밖에서 합니다.
+   */
+  void record(final String relativePath, final State state, final String id,
+      final long size, final long lastModified) {
+    final AppendLog target;
+    synchronized (this) {
+      final Entry entry = new Entry(state, id, size, lastModified);
+      entries.put(relativePath, entry);
+      target = append(format(relativePath, entry));
+    }
+    if (state == State.CONFIRMED) {
+      force(target);
+    }
+  }
+
+  // ========== 로그 처리 ==========
+
+  private void load() throws IOException {
+    log = AppendLog.open(file, this::parse, entries::size, () -> {
+      final List<String> records = new ArrayList<>(entries.size() + 1);
+      if (root != null) {
+        records.add("R\t" + escape(root));
+      }
+      entries.forEach((relativePath, entry) -> records.add(format(relativePath, entry)));
+      return records;
+    });
+  }
+
+  private boolean parse(final String line) {
+    if (line.startsWith("R\t")) {
+      root = unescape(line.substring(2));
+      return true;
+    }
+    final String[] fields = line.split("\t", -1);
+    if (fields.length != 5 || fields[0].length() != 1 || fields[1].isEmpty() || fields[4].isEmpty()) {
+      return false;
+    }
+    final State state = State.of(fields[0].charAt(0));
+    if (state == null) {
+      return false;
+    }
+    try {
+      entries.put(unescape(fields[4]),
+          new Entry(state, fields[1], Long.parseLong(fields[2]), Long.parseLong(fields[3])));
+      return true;
+    } catch (final NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private AppendLog append(final String record) {
+    if (log == null) {
+      throw new FileDepotClientException("ingest journal is closed");
+    }
+    try {
+      log.append(record);
+      return log;
+    } catch (final IOException e) {
+      throw new FileDepotClientException("failed to write ingest journal: " + e.getMessage(), e);
+    }
+  }
+
+  private static void force(final AppendLog target) {
+    try {
+      target.force();
+    } catch (final ClosedChannelException e) {
+      throw new FileDepotClientException("ingest journal is closed", e);
+    } catch (final IOException e) {
+      throw new FileDepotClientException("failed to sync ingest journal: " + e.getMessage(), e);
+    }
+  }
+
+  private static String format(final String relativePath, final Entry entry) {
+    return entry.state().code + "\t" + entry.id() + "\t" + entry.size() + "\t" + entry.lastModified()
+        + "\t" + escape(relativePath);
+  }
+
+  private static String escape(final String value) {
+    final StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '\\' -> sb.append("\\\\");
+        case '\t' -> sb.append("\\t");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        default -> sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String unescape(final String value) {
+    final StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c != '\\' || i == value.length() - 1) {
+        sb.append(c);
+        continue;
+      }
+      final char next = value.charAt(++i);
+      switch (next) {
+        case 't' -> sb.append('\t');
+        case 'n' -> sb.append('\n');
+        case 'r' -> sb.append('\r');
+        default -> sb.append(next);
+      }
+    }
+    return sb.toString();
+  }
+}
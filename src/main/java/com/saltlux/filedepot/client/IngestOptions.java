@@ -0,0 +1,59 @@
+package com.saltlux.filedepot.client;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * {@link FileDepotClient#ingestDirectory(java.nio.file.Path, IngestOptions)} 설정.
+ *
+ * @param journal          체크포인트 저널 (not null, 호출자가 열고 닫음)
+ * @param concurrency      동시에 업로드할 파일 수 (0보다 커야 함)
+ * @param progressInterval 진행 상황 보고 간격 (not null, 0보다 커야 함)
+ * @param progressListener 진행 상황 리스너 (nullable, 보고 스레드에서 호출됨)
+ */
+public record IngestOptions(
+    IngestJournal journal,
+    int concurrency,
+    Duration progressInterval,
+    Consumer<IngestProgress> progressListener) {
+
+  public IngestOptions {
+    if (journal == null) {
+      throw new IllegalArgumentException("journal must not be null");
+    }
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("concurrency must be positive");
+    }
+    if (progressInterval == null || progressInterval.isNegative() || progressInterval.isZero()) {
+      throw new IllegalArgumentException("progressInterval must be positive");
+    }
+  }
+
+  /**
+   * 동시 업로드 8개, 보고 간격 10초, 리스너 없음.
+   *
+   * @param journal 체크포인트 저널 (not null)
+   * @return 기본 설정
+   * @throws IllegalArgumentException journal이 null인 경우
+   */
+  public static IngestOptions of(final IngestJournal journal) {
+    return new IngestOptions(journal, 8, Duration.ofSeconds(10), null);
+  }
+
+  /**
+   * @param concurrency 동시에 업로드할 파일 수
+   * @return 동시 업로드 수만 바꾼 설정
+   */
+  public IngestOptions withConcurrency(final int concurrency) {
+    return new IngestOptions(journal, concurrency, progressInterval, progressListener);
+  }
+
+  /**
+   * @param progressInterval 진행 상황 보고 간격
+   * @param progressListener 진행 상황 리스너
+   * @return 진행 상황 보고만 바꾼 설정
+   */
+  public IngestOptions withProgress(final Duration progressInterval, final Consumer<IngestProgress> progressListener) {
+    return new IngestOptions(journal, concurrency, progressInterval, progressListener);
+  }
+}
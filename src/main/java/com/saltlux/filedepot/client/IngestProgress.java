@@ -0,0 +1,24 @@
+package com.saltlux.filedepot.client;
+
+import java.time.Duration;
+
+/**
+ * 디렉터리 적재 진행 상황.
+ *
+ * @param filesProcessed 업로드(재개 포함)를 마친 파일 수
+ * @param bytesProcessed 업로드(재개 포함)를 마친 파일의 바이트 수
+ * @param filesSkipped   이전 실행에서 이미 확정되어 건너뛴 파일 수
+ * @param filesFailed    실패한 파일 수
+ * @param elapsed        적재 시작 후 경과 시간
+ * @param filesPerSecond 직전 보고 이후 초당 처리 파일 수
+ * @param bytesPerSecond 직전 보고 이후 초당 처리 바이트 수
+ */
+public record IngestProgress(
+    long filesProcessed,
+    long bytesProcessed,
+    long filesSkipped,
+    long filesFailed,
+    Duration elapsed,
+    double filesPerSecond,
+    double bytesPerSecond) {
+}
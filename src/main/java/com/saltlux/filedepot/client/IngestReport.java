@@ -0,0 +1,32 @@
+package com.saltlux.filedepot.client;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 디렉터리 적재 결과.
+ *
+ * @param uploaded 새로 업로드한 파일 수 (중복 제거 인덱스로 기존 파일을 재사용한 경우 포함)
+ * @param resumed  이전 실행에서 본문 업로드까지 끝난 파일을 확정만 하여 마친 수
+ * @param skipped  이전 실행에서 이미 확정되어 건너뛴 파일 수
+ * @param failed   실패한 파일 수 (다음 실행에서 다시 시도)
+ * @param bytes    업로드 또는 재개한 파일의 바이트 수
+ * @param elapsed  소요 시간
+ * @param failures 상대 경로별 실패 원인 (앞의 최대 1000개만 보관)
+ */
+public record IngestReport(
+    long uploaded,
+    long resumed,
+    long skipped,
+    long failed,
+    long bytes,
+    Duration elapsed,
+    Map<String, RuntimeException> failures) {
+
+  /**
+   * @return 실패한 파일이 없으면 true
+   */
+  public boolean isComplete() {
+    return failed == 0;
+  }
+}
@@ -0,0 +1,153 @@
+package com.saltlux.filedepot.client;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류({@code "GET /api/files/{id}/chunks"} 등)와 처리 단계별 소요 시간 히스토그램을 기록하는 리스너.
+ *
+ * <p>
+ * 마이크로초 단위 로그 스케일 버킷(2의 거듭제곱 구간을 4등분)을 사용하므로 백분위 오차는 25% 이내이며,
+ * 기록은 lock 없이 원자 연산만 사용합니다.
+ */
+public class LatencyHistogramListener implements FileDepotClientListener {
+
+  private final Map<String, Map<RequestPhase, Histogram>> histograms = new ConcurrentHashMap<>();
+  private final Map<String, Map<RequestEvent.Outcome, LongAdder>> outcomes = new ConcurrentHashMap<>();
+
+  /**
+   * 히스토그램 요약.
+   *
+   * @param count 기록 수
+   * @param p50   50 백분위
+   * @param p90   90 백분위
+   * @param p99   99 백분위
+   * @param max   최댓값
+   */
+  public record Snapshot(long count, Duration p50, Duration p90, Duration p99, Duration max) {
+  }
+
+  @Override
+  public void onRequestCompleted(final RequestEvent event) {
+    final String key = event.method() + " " + event.uriTemplate();
+    final Map<RequestPhase, Histogram> phases = histograms.computeIfAbsent(key, k -> newPhaseMap());
+    for (final RequestPhase phase : RequestPhase.values()) {
+      phases.get(phase).record(event.duration(phase));
+    }
+    outcomes.computeIfAbsent(key, k -> newOutcomeMap()).get(event.outcome()).increment();
+  }
+
+  /**
+   * @return 기록된 요청 종류 목록 (예: {@code "GET /api/files/{id}"})
+   */
+  public Set<String> requestKeys() {
+    return Set.copyOf(histograms.keySet());
+  }
+
+  /**
+   * @param requestKey 요청 종류 ({@link #requestKeys()} 참고)
+   * @param phase      처리 단계
+   * @return 히스토그램 요약 (기록이 없으면 count=0)
+   */
+  public Snapshot snapshot(final String requestKey, final RequestPhase phase) {
+    final Map<RequestPhase, Histogram> phases = histograms.get(requestKey);
+    return phases != null ? phases.get(phase).snapshot() : new Histogram().snapshot();
+  }
+
+  /**
+   * @param requestKey 요청 종류
+   * @param outcome    요청 결과
+   * @return 해당 결과로 끝난 요청 수
+   */
+  public long count(final String requestKey, final RequestEvent.Outcome outcome) {
+    final Map<RequestEvent.Outcome, LongAdder> counts = outcomes.get(requestKey);
+    return counts != null ? counts.get(outcome).sum() : 0;
+  }
+
+  private static Map<RequestPhase, Histogram> newPhaseMap() {
+    final Map<RequestPhase, Histogram> map = new EnumMap<>(RequestPhase.class);
+    for (final RequestPhase phase : RequestPhase.values()) {
+      map.put(phase, new Histogram());
+    }
+    return map;
+  }
+
+  private static Map<RequestEvent.Outcome, LongAdder> newOutcomeMap() {
+    final Map<RequestEvent.Outcome, LongAdder> map = new EnumMap<>(RequestEvent.Outcome.class);
+    for (final RequestEvent.Outcome outcome : RequestEvent.Outcome.values()) {
+      map.put(outcome, new LongAdder());
+    }
+    return map;
+  }
+
+  /**
+   * 마이크로초 단위 로그 스케일 히스토그램. 0~3us는 각각 한 버킷, 이후는 [2^e, 2^(e+1)) 구간을 4개 버킷으로 나눕니다.
+   */
+  static final class Histogram {
+
+    private static final int BUCKETS = 64 * 4;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(final Duration duration) {
+      final long micros = Math.max(0, duration.toNanos() / 1_000);
+      counts.incrementAndGet(bucketOf(micros));
+      max.accumulate(micros);
+    }
+
+    Snapshot snapshot() {
+      final long[] copy = new long[BUCKETS];
+      long count = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        copy[i] = counts.get(i);
+        count += copy[i];
+      }
+      return new Snapshot(
+          count,
+          percentile(copy, count, 0.50),
+          percentile(copy, count, 0.90),
+          percentile(copy, count, 0.99),
+          Duration.ofNanos(max.get() * 1_000));
+    }
+
+    private static Duration percentile(final long[] counts, final long count, final double quantile) {
+      if (count == 0) {
+        return Duration.ZERO;
+      }
+      final long rank = (long) Math.ceil(quantile * count);
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank) {
+          return Duration.ofNanos(lowerBoundOf(i) * 1_000);
+        }
+      }
+      return Duration.ZERO;
+    }
+
+    static int bucketOf(final long micros) {
+      if (micros < 4) {
+        return (int) micros;
+      }
+      final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+      final int sub = (int) ((micros >>> (exponent - 2)) & 3);
+      return exponent * 4 + sub;
+    }
+
+    static long lowerBoundOf(final int bucket) {
+      if (bucket < 8) {
+        return bucket;
+      }
+      final int exponent = bucket / 4;
+      final int sub = bucket % 4;
+      return (long) (4 + sub) << (exponent - 2);
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.saltlux.filedepot.client;
+
+import java.time.Duration;
+
+/**
+ * 완료된 요청 하나의 단계별 소요 시간과 결과.
+ *
+ * <p>
+ * 관측되지 않은 단계(재사용한 연결의 connect/TLS 등)는 {@link Duration#ZERO}입니다.
+ *
+ * @param method           HTTP 메서드
+ * @param uriTemplate      URI 템플릿 (예: {@code /api/files/{id}/chunks}, presigned URL은 {@code {uploadUrl}} 등)
+ * @param outcome          요청 결과
+ * @param error            실패 원인 (성공, 취소 시 null)
+ * @param requestBytes     전송한 바이트 수
+ * @param responseBytes    수신한 바이트 수
+ * @param poolAcquire      {@link RequestPhase#POOL_ACQUIRE}
+ * @param connect          {@link RequestPhase#CONNECT}
+ * @param tlsHandshake     {@link RequestPhase#TLS_HANDSHAKE}
+ * @param requestWrite     {@link RequestPhase#REQUEST_WRITE}
+ * @param timeToFirstByte  {@link RequestPhase#TIME_TO_FIRST_BYTE}
+ * @param bodyTransfer     {@link RequestPhase#BODY_TRANSFER}
+ * @param decode           {@link RequestPhase#DECODE}
+ * @param total            {@link RequestPhase#TOTAL}
+ */
+public record RequestEvent(
+    String method,
+    String uriTemplate,
+    Outcome outcome,
+    Throwable error,
+    long requestBytes,
+    long responseBytes,
+    Duration poolAcquire,
+    Duration connect,
+    Duration tlsHandshake,
+    Duration requestWrite,
+    Duration timeToFirstByte,
+    Duration bodyTransfer,
+    Duration decode,
+    Duration total) {
+
+  /**
+   * 요청 결과.
+   */
+  public enum Outcome {
+    /** 정상 응답 */
+    SUCCESS,
+    /** 서버에서 반환한 에러 ({@link FileDepotException}, HTTP 5xx) */
+    SERVER_ERROR,
+    /** 클라이언트 측 에러 (네트워크, 타임아웃, HTTP 4xx 등) */
+    CLIENT_ERROR,
+    /** 완료 전 취소 */
+    CANCELLED
+  }
+
+  /**
+   * @param phase 요청 처리 단계
+   * @return 해당 단계의 소요 시간
+   */
+  public Duration duration(final RequestPhase phase) {
+    return switch (phase) {
+      case POOL_ACQUIRE -> poolAcquire;
+      case CONNECT -> connect;
+      case TLS_HANDSHAKE -> tlsHandshake;
+      case REQUEST_WRITE -> requestWrite;
+      case TIME_TO_FIRST_BYTE -> timeToFirstByte;
+      case BODY_TRANSFER -> bodyTransfer;
+      case DECODE -> decode;
+      case TOTAL -> total;
+    };
+  }
+}
@@ -0,0 +1,31 @@
+package com.saltlux.filedepot.client;
+
+/**
+ * 요청 처리 단계.
+ */
+public enum RequestPhase {
+
+  /** 구독부터 연결 확보까지 (커넥션 풀 대기, DNS 조회 포함. 새 연결의 connect/TLS 시간 제외) */
+  POOL_ACQUIRE,
+
+  /** TCP 연결 (새 연결인 경우에만) */
+  CONNECT,
+
+  /** TLS 핸드셰이크 (새 HTTPS 연결인 경우에만) */
+  TLS_HANDSHAKE,
+
+  /** 요청 헤더와 본문 전송 */
+  REQUEST_WRITE,
+
+  /** 요청 전송 완료부터 응답 헤더 수신까지 (서버 처리 시간) */
+  TIME_TO_FIRST_BYTE,
+
+  /** 응답 헤더 수신부터 마지막 바이트 수신까지 */
+  BODY_TRANSFER,
+
+  /** 마지막 바이트 수신부터 응답 객체 디코딩 완료까지 */
+  DECODE,
+
+  /** 구독부터 완료까지 전체 */
+  TOTAL
+}
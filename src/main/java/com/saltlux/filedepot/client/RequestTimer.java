@@ -0,0 +1,218 @@
+package com.saltlux.filedepot.client;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.ContextAwareHttpClientMetricsRecorder;
+import reactor.netty.http.client.HttpClient;
+import reactor.util.context.ContextView;
+
+/**
+ * 요청 하나의 단계별 시각을 기록합니다.
+ *
+ * <p>
+ * 클라이언트가 요청 Mono의 Reactor Context에 타이머를 넣으면, {@link #instrument(HttpClient)}로 등록한
+ * Reactor Netty 콜백과 metrics recorder가 같은 Context에서 타이머를 찾아 시각을 기록합니다.
+ * Netty 이벤트 루프와 구독 스레드에서 기록되므로 필드는 volatile입니다.
+ */
+final class RequestTimer {
+
+  private static final Logger log = LoggerFactory.getLogger(RequestTimer.class);
+
+  private final String method;
+  private final String uriTemplate;
+  private final long subscribedAt = System.nanoTime();
+  private volatile long connectNanos;
+  private volatile long tlsHandshakeNanos;
+  private volatile long requestWriteNanos;
+  private volatile long requestStartedAt;
+  private volatile long requestSentAt;
+  private volatile long firstByteAt;
+  private volatile long lastByteAt;
+  private volatile long requestBytes;
+  private volatile long responseBytes;
+
+  private RequestTimer(final String method, final String uriTemplate) {
+    this.method = method;
+    this.uriTemplate = uriTemplate;
+  }
+
+  /**
+   * 리스너가 있으면 요청 Mono에 타이머를 연결합니다. 리스너가 없으면 요청을 그대로 반환합니다.
+   */
+  static <T> Mono<T> observe(
+      final FileDepotClientListener listener,
+      final String method,
+      final String uriTemplate,
+      final Mono<T> request) {
+    if (listener == null) {
+      return request;
+    }
+    return Mono.defer(() -> {
+      final RequestTimer timer = new RequestTimer(method, uriTemplate);
+      return request
+          .doOnSuccess(value -> notify(listener, timer.toEvent(RequestEvent.Outcome.SUCCESS, null)))
+          .doOnError(error -> notify(listener, timer.toEvent(outcomeOf(error), error)))
+          .doOnCancel(() -> notify(listener, timer.toEvent(RequestEvent.Outcome.CANCELLED, null)))
+          .contextWrite(context -> context.put(RequestTimer.class, timer));
+    });
+  }
+
+  /**
+   * 단계별 시각을 기록하는 콜백과 metrics recorder를 HttpClient에 등록합니다.
+   */
+  static HttpClient instrument(final HttpClient httpClient) {
+    final PhaseRecorder recorder = new PhaseRecorder();
+    return httpClient
+        .metrics(true, () -> recorder, Function.identity())
+        .doOnRequest((request, connection) -> ifPresent(request.currentContextView(),
+            timer -> timer.requestStartedAt = System.nanoTime()))
+        .doAfterRequest((request, connection) -> ifPresent(request.currentContextView(),
+            timer -> timer.requestSentAt = System.nanoTime()))
+        .doOnResponse((response, connection) -> ifPresent(response.currentContextView(),
+            timer -> timer.firstByteAt = System.nanoTime()))
+        .doAfterResponseSuccess((response, connection) -> ifPresent(response.currentContextView(),
+            timer -> timer.lastByteAt = System.nanoTime()));
+  }
+
+  // ========== 이벤트 생성 ==========
+
+  private RequestEvent toEvent(final RequestEvent.Outcome outcome, final Throwable error) {
+    final long completedAt = System.nanoTime();
+    final long acquired = requestStartedAt != 0
+        ? requestStartedAt - subscribedAt - connectNanos - tlsHandshakeNanos
+        : 0;
+    return new RequestEvent(
+        method,
+        uriTemplate,
+        outcome,
+        error,
+        requestBytes,
+        responseBytes,
+        nanos(acquired),
+        nanos(connectNanos),
+        nanos(tlsHandshakeNanos),
+        nanos(requestWriteNanos),
+        between(requestSentAt, firstByteAt),
+        between(firstByteAt, lastByteAt),
+        between(lastByteAt, completedAt),
+        nanos(completedAt - subscribedAt));
+  }
+
+  static RequestEvent.Outcome outcomeOf(final Throwable error) {
+    if (error instanceof FileDepotException
+        || error instanceof WebClientResponseException response && response.getStatusCode().is5xxServerError()) {
+      return RequestEvent.Outcome.SERVER_ERROR;
+    }
+    return RequestEvent.Outcome.CLIENT_ERROR;
+  }
+
+  private static Duration between(final long from, final long to) {
+    return from != 0 && to != 0 ? nanos(to - from) : Duration.ZERO;
+  }
+
+  private static Duration nanos(final long nanos) {
+    return nanos > 0 ? Duration.ofNanos(nanos) : Duration.ZERO;
+  }
+
+  private static void notify(final FileDepotClientListener listener, final RequestEvent event) {
+    try {
+      listener.onRequestCompleted(event);
+    } catch (final RuntimeException e) {
+      log.warn("FileDepotClientListener failed: {}", e.getMessage(), e);
+    }
+  }
+
+  private static void ifPresent(final ContextView context, final Consumer<RequestTimer> action) {
+    final RequestTimer timer = context.getOrDefault(RequestTimer.class, null);
+    if (timer != null) {
+      action.accept(timer);
+    }
+  }
+
+  // ========== Reactor Netty metrics ==========
+
+  /**
+   * Reactor Netty가 요청 Context와 함께 전달하는 연결/전송 지표를 타이머에 기록합니다.
+   */
+  private static final class PhaseRecorder extends ContextAwareHttpClientMetricsRecorder {
+
+    @Override
+    public void recordConnectTime(final ContextView contextView, final SocketAddress remoteAddress,
+        final Duration time, final String status) {
+      ifPresent(contextView, timer -> timer.connectNanos = time.toNanos());
+    }
+
+    @Override
+    public void recordTlsHandshakeTime(final ContextView contextView, final SocketAddress remoteAddress,
+        final Duration time, final String status) {
+      ifPresent(contextView, timer -> timer.tlsHandshakeNanos = time.toNanos());
+    }
+
+    @Override
+    public void recordDataSentTime(final ContextView contextView, final SocketAddress remoteAddress,
+        final String uri, final String method, final Duration time) {
+      ifPresent(contextView, timer -> timer.requestWriteNanos = time.toNanos());
+    }
+
+    @Override
+    public void recordDataSent(final ContextView contextView, final SocketAddress remoteAddress,
+        final String uri, final long bytes) {
+      ifPresent(contextView, timer -> timer.requestBytes = bytes);
+    }
+
+    @Override
+    public void recordDataReceived(final ContextView contextView, final SocketAddress remoteAddress,
+        final String uri, final long bytes) {
+      ifPresent(contextView, timer -> timer.responseBytes = bytes);
+    }
+
+    @Override
+    public void recordDataReceivedTime(final ContextView contextView, final SocketAddress remoteAddress,
+        final String uri, final String method, final String status, final Duration time) {
+      // doOnResponse/doAfterResponseSuccess 시각으로 계산
+    }
+
+    @Override
+    public void recordResponseTime(final ContextView contextView, final SocketAddress remoteAddress,
+        final String uri, final String method, final String status, final Duration time) {
+      // 구독부터 완료까지를 직접 측정
+    }
+
+    @Override
+    public void recordDataSent(final ContextView contextView, final SocketAddress remoteAddress,
+        final long bytes) {
+      // URI별 지표(recordDataSent(..., uri, bytes))만 사용
+    }
+
+    @Override
+    public void recordDataReceived(final ContextView contextView, final SocketAddress remoteAddress,
+        final long bytes) {
+      // URI별 지표(recordDataReceived(..., uri, bytes))만 사용
+    }
+
+    @Override
+    public void incrementErrorsCount(final ContextView contextView, final SocketAddress remoteAddress) {
+      // 결과는 요청 Mono의 완료 신호로 판단
+    }
+
+    @Override
+    public void incrementErrorsCount(final ContextView contextView, final SocketAddress remoteAddress,
+        final String uri) {
+      // 결과는 요청 Mono의 완료 신호로 판단
+    }
+
+    @Override
+    public void recordResolveAddressTime(final SocketAddress remoteAddress, final Duration time,
+        final String status) {
+      // 요청 Context가 전달되지 않으므로 POOL_ACQUIRE에 포함
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.saltlux.filedepot.client;
+
+/**
+ * 업로드/다운로드 스트림의 대역폭 우선순위 클래스.
+ *
+ * @see BandwidthLimiter
+ */
+public enum TransferPriority {
+
+  /** 지연에 민감한 전송. 자체 대역폭 예산을 사용합니다. */
+  INTERACTIVE,
+
+  /** 대량 전송. 자체 예산을 다 쓰면 대기 중인 INTERACTIVE 전송이 없을 때 INTERACTIVE의 남는 예산을 빌려 씁니다. */
+  BULK
+}
@@ -0,0 +1,52 @@
+package com.saltlux.filedepot.client;
+
+import java.time.Duration;
+
+/**
+ * {@link FileDepotClient#warmUp(WarmUpOptions)} 설정.
+ *
+ * @param connections    미리 열어둘 커넥션 수 (0 이상)
+ * @param healthProbeUri 마지막에 호출할 헬스 체크 URI (nullable, baseUrl 기준 상대 경로 또는 절대 URL. 2xx가 아니면 실패)
+ * @param timeout        전체 예열 제한 시간 (not null, 0보다 커야 함)
+ */
+public record WarmUpOptions(int connections, String healthProbeUri, Duration timeout) {
+
+  /** 커넥션 4개, 헬스 체크 없음, 제한 시간 10초 */
+  public static final WarmUpOptions DEFAULT = new WarmUpOptions(4, null, Duration.ofSeconds(10));
+
+  public WarmUpOptions {
+    if (connections < 0) {
+      throw new IllegalArgumentException("connections must not be negative");
+    }
+    if (healthProbeUri != null && healthProbeUri.isBlank()) {
+      throw new IllegalArgumentException("healthProbeUri must not be blank");
+    }
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("timeout must be positive");
+    }
+  }
+
+  /**
+   * @param connections 미리 열어둘 커넥션 수
+   * @return 커넥션 수만 바꾼 설정
+   */
+  public WarmUpOptions withConnections(final int connections) {
+    return new WarmUpOptions(connections, healthProbeUri, timeout);
+  }
+
+  /**
+   * @param healthProbeUri 헬스 체크 URI (예: {@code http://depot:8081/actuator/health})
+   * @return 헬스 체크 URI만 바꾼 설정
+   */
+  public WarmUpOptions withHealthProbe(final String healthProbeUri) {
+    return new WarmUpOptions(connections, healthProbeUri, timeout);
+  }
+
+  /**
+   * @param timeout 전체 예열 제한 시간
+   * @return 제한 시간만 바꾼 설정
+   */
+  public WarmUpOptions withTimeout(final Duration timeout) {
+    return new WarmUpOptions(connections, healthProbeUri, timeout);
+  }
+}
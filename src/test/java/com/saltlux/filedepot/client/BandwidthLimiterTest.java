@@ -0,0 +1,33 @@
+package com.saltlux.filedepot.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BandwidthLimiter")
+class BandwidthLimiterTest {
+
+  @Test
+  @DisplayName("refill after long idle gap should cap tokens at burst capacity")
+  void refillAfterLongIdleGapShouldCapTokens() {
+    final long rate = 80L * 1024 * 1024;
+    final BandwidthLimiter.Bucket bucket = new BandwidthLimiter.Bucket(rate, 0);
+
+    // long 곱셈이면 약 110초에서 overflow
+    bucket.refill(Duration.ofMinutes(10).toNanos());
+
+    assertThat(bucket.tokens()).isEqualTo(rate * 0.1);
+  }
+
+  @Test
+  @DisplayName("setRate() with negative rate should throw IllegalArgumentException")
+  void setRateWithNegativeRateShouldThrowException() {
+    assertThatThrownBy(() -> new BandwidthLimiter().setRate(TransferPriority.BULK, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("bytesPerSecond");
+  }
+}
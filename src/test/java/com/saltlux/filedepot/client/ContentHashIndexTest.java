@@ -0,0 +1,54 @@
+package com.saltlux.filedepot.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ContentHashIndex")
+class ContentHashIndexTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("index should survive reopening")
+  void indexShouldSurviveReopening() throws Exception {
+    final Path indexFile = tempDir.resolve("dedup.idx");
+    try (ContentHashIndex index = ContentHashIndex.open(indexFile)) {
+      index.put("hash-1", "id-1");
+      index.put("hash-2", "id-2");
+      index.removeIds(List.of("id-1"));
+    }
+    try (ContentHashIndex reopened = ContentHashIndex.open(indexFile)) {
+      assertThat(reopened.find("hash-1")).isNull();
+      assertThat(reopened.find("hash-2")).isEqualTo("id-2");
+    }
+  }
+
+  @Test
+  @DisplayName("torn last line should be ignored and not swallow later records")
+  void tornLastLineShouldBeIgnored() throws Exception {
+    final Path indexFile = tempDir.resolve("torn.idx");
+    try (ContentHashIndex index = ContentHashIndex.open(indexFile)) {
+      index.put("hash-1", "id-1");
+    }
+    Files.writeString(indexFile, "+hash-2\tid-", StandardOpenOption.APPEND);
+
+    try (ContentHashIndex reopened = ContentHashIndex.open(indexFile)) {
+      assertThat(reopened.find("hash-2")).isNull();
+      reopened.put("hash-3", "id-3");
+    }
+    try (ContentHashIndex reopened = ContentHashIndex.open(indexFile)) {
+      assertThat(reopened.size()).isEqualTo(2);
+      assertThat(reopened.find("hash-1")).isEqualTo("id-1");
+      assertThat(reopened.find("hash-3")).isEqualTo("id-3");
+    }
+  }
+}
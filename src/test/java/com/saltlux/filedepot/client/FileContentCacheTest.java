@@ -0,0 +1,54 @@
+package com.saltlux.filedepot.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("FileContentCache")
+class FileContentCacheTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("cache should evict least recently used entries over budget")
+  void cacheShouldEvictLeastRecentlyUsedEntries() throws Exception {
+    final FileContentCache cache = FileContentCache.open(tempDir.resolve("cache"), 10);
+    cache.get("a", target -> Files.writeString(target, "aaaa"));
+    cache.get("b", target -> Files.writeString(target, "bbbb"));
+    cache.get("a", target -> Files.writeString(target, "xxxx"));
+    cache.get("c", target -> Files.writeString(target, "cccc"));
+
+    assertThat(cache.entryCount()).isEqualTo(2);
+    assertThat(cache.sizeInBytes()).isEqualTo(8);
+    assertThat(cache.get("a", target -> Files.writeString(target, "xxxx"))).hasContent("aaaa");
+  }
+
+  @Test
+  @DisplayName("entry larger than capacity should be served once without evicting others")
+  void oversizedEntryShouldNotBeAdmitted() throws Exception {
+    final FileContentCache cache = FileContentCache.open(tempDir.resolve("cache"), 8);
+    cache.get("small", target -> Files.write(target, new byte[4]));
+
+    try (FileChannel channel = cache.open("large", target -> Files.write(target, new byte[16]))) {
+      assertThat(channel.read(ByteBuffer.allocate(32))).isEqualTo(16);
+    }
+
+    assertThat(cache.entryCount()).isEqualTo(1);
+    assertThat(cache.sizeInBytes()).isEqualTo(4);
+    try (var files = Files.list(tempDir.resolve("cache"))) {
+      assertThat(files.count()).isEqualTo(1);
+    }
+    assertThatThrownBy(() -> cache.get("large", target -> Files.write(target, new byte[16])))
+        .isInstanceOf(FileDepotClientException.class)
+        .hasMessageContaining("exceeds cache capacity");
+  }
+}
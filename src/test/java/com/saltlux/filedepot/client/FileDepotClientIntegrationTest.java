@@ -2,20 +2,39 @@ package com.saltlux.filedepot.client;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import me.hanju.filedepot.api.dto.ChunkDto;
 import me.hanju.filedepot.api.dto.DownloadUrlResponse;
 import me.hanju.filedepot.api.dto.StorageItemDto;
 import me.hanju.filedepot.api.dto.UploadUrlResponse;
@@ -330,4 +349,430 @@ class FileDepotClientIntegrationTest {
           .isInstanceOfAny(FileDepotException.class, FileDepotClientException.class);
     }
   }
+
+  @Nested
+  @DisplayName("uploadFile() with dedup index")
+  class DedupUploadTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("identical content should return existing file without re-uploading")
+    void identicalContentShouldReturnExistingFile() throws Exception {
+      try (ContentHashIndex index = ContentHashIndex.open(tempDir.resolve("dedup.idx"))) {
+        final FileDepotClient dedupClient = HttpFileDepotClient
+            .builder(TestContainersConfig.getFileDepotBaseUrl())
+            .dedupIndex(index)
+            .build();
+        final Path first = Files.writeString(tempDir.resolve("a.txt"), "Same content");
+        final Path second = Files.writeString(tempDir.resolve("b.txt"), "Same content");
+
+        final StorageItemDto uploaded = dedupClient.uploadFile(first, "a.txt");
+        final StorageItemDto duplicate = dedupClient.uploadFile(second, "b.txt");
+
+        assertThat(duplicate.id()).isEqualTo(uploaded.id());
+        assertThat(index.size()).isEqualTo(1);
+      }
+    }
+
+    @Test
+    @DisplayName("deleteFiles should drop index entries")
+    void deleteFilesShouldDropIndexEntries() throws Exception {
+      try (ContentHashIndex index = ContentHashIndex.open(tempDir.resolve("dedup.idx"))) {
+        final FileDepotClient dedupClient = HttpFileDepotClient
+            .builder(TestContainersConfig.getFileDepotBaseUrl())
+            .dedupIndex(index)
+            .build();
+        final Path file = Files.writeString(tempDir.resolve("c.txt"), "Deleted content");
+
+        final StorageItemDto uploaded = dedupClient.uploadFile(file, "c.txt");
+        dedupClient.deleteFiles(List.of(uploaded.id()));
+
+        assertThat(index.size()).isZero();
+        final StorageItemDto reuploaded = dedupClient.uploadFile(file, "c.txt");
+        assertThat(reuploaded.id()).isNotEqualTo(uploaded.id());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("downloadTo() with content cache")
+  class ContentCacheTests {
+
+    @TempDir
+    Path tempDir;
+
+    private byte[] download(final FileDepotClient target, final String id) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final long written = target.downloadTo(id, Channels.newChannel(out));
+      assertThat(written).isEqualTo(out.size());
+      return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("repeated downloads should be served from cache")
+    void repeatedDownloadsShouldBeServedFromCache() throws Exception {
+      final FileContentCache cache = FileContentCache.open(tempDir.resolve("cache"), 1024 * 1024);
+      final HttpFileDepotClient cachingClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .contentCache(cache)
+          .build();
+      final Path file = Files.writeString(tempDir.resolve("cached.txt"), "Cached content");
+      final StorageItemDto uploaded = client.uploadFile(file, "cached.txt");
+
+      assertThat(download(cachingClient, uploaded.id())).isEqualTo(Files.readAllBytes(file));
+      assertThat(cache.entryCount()).isEqualTo(1);
+
+      // 캐시를 거치지 않는 클라이언트로 삭제해도 캐시된 컨텐츠는 그대로 제공됨
+      client.deleteFiles(List.of(uploaded.id()));
+      assertThat(download(cachingClient, uploaded.id())).isEqualTo(Files.readAllBytes(file));
+    }
+
+    @Test
+    @DisplayName("deleteFiles should invalidate cached entries")
+    void deleteFilesShouldInvalidateCachedEntries() throws Exception {
+      final FileContentCache cache = FileContentCache.open(tempDir.resolve("cache"), 1024 * 1024);
+      final HttpFileDepotClient cachingClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .contentCache(cache)
+          .build();
+      final Path file = Files.writeString(tempDir.resolve("invalidated.txt"), "Invalidated content");
+      final StorageItemDto uploaded = client.uploadFile(file, "invalidated.txt");
+
+      final Path cached = cachingClient.getCachedFile(uploaded.id());
+      assertThat(cached).hasContent("Invalidated content");
+
+      cachingClient.deleteFiles(List.of(uploaded.id()));
+      assertThat(cache.entryCount()).isZero();
+      assertThat(cached).doesNotExist();
+    }
+  }
+
+  @Nested
+  @DisplayName("getFileMetadataBatch()")
+  class MetadataBatchTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should return metadata for every id in input order")
+    void shouldReturnMetadataForEveryId() throws Exception {
+      final StorageItemDto first = client.uploadFile(
+          Files.writeString(tempDir.resolve("first.txt"), "First"), "first.txt");
+      final StorageItemDto second = client.uploadFile(
+          Files.writeString(tempDir.resolve("second.txt"), "Second"), "second.txt");
+
+      final Map<String, StorageItemDto> result = client.getFileMetadataBatch(
+          List.of(second.id(), first.id(), second.id()), false);
+
+      assertThat(result).containsOnlyKeys(second.id(), first.id());
+      assertThat(result.keySet()).containsExactly(second.id(), first.id());
+      assertThat(result.get(first.id()).fileName()).isEqualTo("first.txt");
+    }
+
+    @Test
+    @DisplayName("should report per-id failures with partial results")
+    void shouldReportPerIdFailures() throws Exception {
+      final StorageItemDto existing = client.uploadFile(
+          Files.writeString(tempDir.resolve("existing.txt"), "Existing"), "existing.txt");
+
+      assertThatThrownBy(() -> client.getFileMetadataBatch(List.of(existing.id(), "non-existent-uuid"), false))
+          .isInstanceOfSatisfying(FileDepotBatchException.class, e -> {
+            assertThat(e.getSucceeded()).containsOnlyKeys(existing.id());
+            assertThat(e.getSucceeded(StorageItemDto.class).get(existing.id()).fileName()).isEqualTo("existing.txt");
+            assertThat(e.getFailures()).containsOnlyKeys("non-existent-uuid");
+          });
+    }
+
+    @Test
+    @DisplayName("with empty list should throw IllegalArgumentException")
+    void withEmptyListShouldThrowException() {
+      assertThatThrownBy(() -> client.getFileMetadataBatch(List.of(), false))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("ids");
+    }
+  }
+
+  @Nested
+  @DisplayName("awaitChunks()")
+  class AwaitChunksTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should complete with TimeoutException when chunks never appear")
+    void shouldTimeOutWhenChunksNeverAppear() throws Exception {
+      // 테스트 컨테이너는 파싱/임베딩이 비활성화되어 있어 청크가 생성되지 않음
+      final StorageItemDto uploaded = client.uploadFile(
+          Files.writeString(tempDir.resolve("pending.txt"), "Pending"), "pending.txt");
+
+      final Map<String, CompletableFuture<List<ChunkDto>>> futures = client.awaitChunks(
+          List.of(uploaded.id(), uploaded.id()), Duration.ofSeconds(2));
+
+      assertThat(futures).containsOnlyKeys(uploaded.id());
+      assertThatThrownBy(() -> futures.get(uploaded.id()).get())
+          .isInstanceOf(ExecutionException.class)
+          .cause()
+          .isInstanceOf(TimeoutException.class)
+          .hasMessageContaining(uploaded.id());
+    }
+
+    @Test
+    @DisplayName("TimeoutException should carry the last polling error as cause")
+    void timeoutShouldCarryLastPollingError() {
+      final String missingId = "00000000-0000-0000-0000-000000000000";
+
+      final CompletableFuture<List<ChunkDto>> future = client.awaitChunks(
+          List.of(missingId), Duration.ofSeconds(1)).get(missingId);
+
+      assertThatThrownBy(future::get)
+          .isInstanceOf(ExecutionException.class)
+          .cause()
+          .isInstanceOf(TimeoutException.class)
+          .hasMessageContaining(missingId)
+          .cause()
+          .isInstanceOfAny(FileDepotException.class, FileDepotClientException.class);
+    }
+
+    @Test
+    @DisplayName("with non-positive timeout should throw IllegalArgumentException")
+    void withNonPositiveTimeoutShouldThrowException() {
+      assertThatThrownBy(() -> client.awaitChunks(List.of("valid-id"), Duration.ZERO))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("timeout");
+    }
+  }
+
+  @Nested
+  @DisplayName("FileDepotClientListener")
+  class ListenerTests {
+
+    @Test
+    @DisplayName("should report phase timings for each request")
+    void shouldReportPhaseTimings() {
+      final List<RequestEvent> events = Collections.synchronizedList(new ArrayList<>());
+      final LatencyHistogramListener histogram = new LatencyHistogramListener();
+      final FileDepotClient observedClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .listener(event -> {
+            events.add(event);
+            histogram.onRequestCompleted(event);
+          })
+          .build();
+
+      observedClient.prepareUpload();
+      final Throwable failure = catchThrowable(() -> observedClient.getFileMetadata("non-existent-uuid", false));
+      assertThat(failure).isInstanceOfAny(FileDepotException.class, FileDepotClientException.class);
+      // 서버 구현에 따라 success=false 응답, 4xx, 5xx 중 하나로 실패
+      final RequestEvent.Outcome expectedOutcome = failure instanceof FileDepotException
+          || failure.getCause() instanceof WebClientResponseException response
+              && response.getStatusCode().is5xxServerError()
+          ? RequestEvent.Outcome.SERVER_ERROR
+          : RequestEvent.Outcome.CLIENT_ERROR;
+
+      assertThat(events).hasSize(2);
+      final RequestEvent prepared = events.get(0);
+      assertThat(prepared.method()).isEqualTo("POST");
+      assertThat(prepared.uriTemplate()).isEqualTo("/api/files/prepare-upload");
+      assertThat(prepared.outcome()).isEqualTo(RequestEvent.Outcome.SUCCESS);
+      assertThat(prepared.timeToFirstByte()).isPositive();
+      assertThat(prepared.total()).isGreaterThanOrEqualTo(prepared.timeToFirstByte());
+      assertThat(prepared.responseBytes()).isPositive();
+      assertThat(events.get(1).outcome()).isEqualTo(expectedOutcome);
+
+      assertThat(histogram.snapshot("POST /api/files/prepare-upload", RequestPhase.TOTAL).count()).isEqualTo(1);
+      assertThat(histogram.count("GET /api/files/{id}", RequestEvent.Outcome.SUCCESS)).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("BandwidthLimiter")
+  class BandwidthLimiterTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("upload and download bodies should respect the priority class budget")
+    void transfersShouldRespectBudget() throws Exception {
+      final BandwidthLimiter limiter = new BandwidthLimiter()
+          .setRate(TransferPriority.BULK, 128 * 1024);
+      final HttpFileDepotClient bulkClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .bandwidthLimiter(limiter)
+          .build()
+          .withTransferPriority(TransferPriority.BULK, 1);
+      final byte[] content = new byte[384 * 1024];
+      final Path file = Files.write(tempDir.resolve("throttled.bin"), content);
+
+      final long uploadStarted = System.nanoTime();
+      final StorageItemDto uploaded = bulkClient.uploadFile(file, "throttled.bin");
+      final Duration uploadTime = Duration.ofNanos(System.nanoTime() - uploadStarted);
+
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final long downloadStarted = System.nanoTime();
+      bulkClient.downloadTo(uploaded.id(), Channels.newChannel(out));
+      final Duration downloadTime = Duration.ofNanos(System.nanoTime() - downloadStarted);
+
+      // 64KiB burst 이후 나머지 320KiB를 128KiB/s로 전송
+      assertThat(uploaded.size()).isEqualTo(content.length);
+      assertThat(out.toByteArray()).isEqualTo(content);
+      assertThat(uploadTime).isGreaterThan(Duration.ofMillis(2000));
+      assertThat(downloadTime).isGreaterThan(Duration.ofMillis(2000));
+    }
+
+    @Test
+    @DisplayName("throttled downloadBatch() should keep the codec in-memory limit")
+    void throttledDownloadBatchShouldKeepInMemoryLimit() throws Exception {
+      final HttpFileDepotClient limitedClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .bandwidthLimiter(new BandwidthLimiter().setRate(TransferPriority.INTERACTIVE, 64L * 1024 * 1024))
+          .build();
+      // 압축되지 않는 512KiB 컨텐츠로 ZIP이 기본 한도(256KiB)를 넘도록 함
+      final byte[] content = new byte[512 * 1024];
+      new Random(42).nextBytes(content);
+      final Path file = Files.write(tempDir.resolve("large.bin"), content);
+      final StorageItemDto uploaded = limitedClient.uploadFile(file, "large.bin");
+
+      assertThatThrownBy(() -> client.downloadBatch(List.of(uploaded.id())))
+          .isInstanceOf(FileDepotClientException.class);
+      assertThatThrownBy(() -> limitedClient.downloadBatch(List.of(uploaded.id())))
+          .isInstanceOf(FileDepotClientException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("warmUp()")
+  class WarmUpTests {
+
+    @Test
+    @DisplayName("should open connections and mark client as warmed up")
+    void shouldMarkClientAsWarmedUp() throws Exception {
+      final HttpFileDepotClient freshClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .build();
+      assertThat(freshClient.isWarmedUp()).isFalse();
+
+      freshClient.warmUpAsync(WarmUpOptions.DEFAULT).get();
+
+      assertThat(freshClient.isWarmedUp()).isTrue();
+      assertThat(freshClient.prepareUpload().id()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("failing health probe should throw FileDepotClientException")
+    void failingHealthProbeShouldThrowException() {
+      final HttpFileDepotClient freshClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .build();
+
+      assertThatThrownBy(() -> freshClient.warmUp(WarmUpOptions.DEFAULT.withHealthProbe("/non-existent-health")))
+          .isInstanceOf(FileDepotClientException.class);
+      assertThat(freshClient.isWarmedUp()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("ingestDirectory()")
+  class IngestDirectoryTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should upload tree once and resume from journal")
+    void shouldUploadTreeAndResumeFromJournal() throws Exception {
+      final Path root = Files.createDirectories(tempDir.resolve("tree"));
+      Files.createDirectories(root.resolve("a/b"));
+      Files.writeString(root.resolve("top.txt"), "top", StandardCharsets.UTF_8);
+      Files.writeString(root.resolve("a/one.txt"), "one", StandardCharsets.UTF_8);
+      final Path two = Files.writeString(root.resolve("a/b/two.txt"), "two", StandardCharsets.UTF_8);
+      final HttpFileDepotClient ingestClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .build();
+      final List<IngestProgress> progress = Collections.synchronizedList(new ArrayList<>());
+
+      try (IngestJournal journal = IngestJournal.open(tempDir.resolve("ingest.journal"))) {
+        final IngestOptions options = IngestOptions.of(journal)
+            .withConcurrency(2)
+            .withProgress(Duration.ofMillis(100), progress::add);
+
+        final IngestReport first = ingestClient.ingestDirectory(root, options);
+        assertThat(first.uploaded()).isEqualTo(3);
+        assertThat(first.isComplete()).isTrue();
+        assertThat(journal.find("a/b/two.txt").state()).isEqualTo(IngestJournal.State.CONFIRMED);
+        assertThat(progress).isNotEmpty();
+        assertThat(progress.get(progress.size() - 1).filesProcessed()).isEqualTo(3);
+
+        // 본문 업로드 후 확정 전에 중단된 상황
+        Files.writeString(two, "two-v2", StandardCharsets.UTF_8);
+        final long size = Files.size(two);
+        final long lastModified = Files.getLastModifiedTime(two).toMillis();
+        assertThatThrownBy(() -> ingestClient.uploadFile(two, "two.txt", id -> {
+        }, id -> {
+          journal.record("a/b/two.txt", IngestJournal.State.UPLOADED, id, size, lastModified);
+          throw new IllegalStateException("crash");
+        })).hasMessage("crash");
+
+        final IngestReport second = ingestClient.ingestDirectory(root, options);
+        assertThat(second.uploaded()).isZero();
+        assertThat(second.resumed()).isEqualTo(1);
+        assertThat(second.skipped()).isEqualTo(2);
+        final String id = journal.find("a/b/two.txt").id();
+        assertThat(ingestClient.getFileMetadata(id, false).size()).isEqualTo(size);
+      }
+
+      try (IngestJournal reopened = IngestJournal.open(tempDir.resolve("ingest.journal"))) {
+        assertThat(reopened.size()).isEqualTo(3);
+        assertThat(ingestClient.ingestDirectory(root, IngestOptions.of(reopened)).skipped()).isEqualTo(3);
+      }
+    }
+
+    @Test
+    @DisplayName("unreadable subdirectory should be reported as failure without aborting")
+    void unreadableSubdirectoryShouldBeReportedAsFailure() throws Exception {
+      final Path root = Files.createDirectories(tempDir.resolve("tree"));
+      Files.writeString(root.resolve("readable.txt"), "readable", StandardCharsets.UTF_8);
+      final Path locked = Files.createDirectories(root.resolve("locked"));
+      Files.writeString(locked.resolve("hidden.txt"), "hidden", StandardCharsets.UTF_8);
+      Files.setPosixFilePermissions(locked, Set.of());
+      final HttpFileDepotClient ingestClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .build();
+
+      try (IngestJournal journal = IngestJournal.open(tempDir.resolve("ingest.journal"))) {
+        // root 권한으로 실행하면 권한과 무관하게 읽을 수 있음
+        assumeFalse(Files.isReadable(locked));
+
+        final IngestReport report = ingestClient.ingestDirectory(root, IngestOptions.of(journal));
+
+        assertThat(report.uploaded()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.failures()).containsOnlyKeys("locked");
+      } finally {
+        Files.setPosixFilePermissions(locked, PosixFilePermissions.fromString("rwx------"));
+      }
+    }
+
+    @Test
+    @DisplayName("journal of another directory should throw IllegalArgumentException")
+    void journalOfAnotherDirectoryShouldThrowException() throws Exception {
+      final Path first = Files.createDirectories(tempDir.resolve("first"));
+      final Path second = Files.createDirectories(tempDir.resolve("second"));
+      final HttpFileDepotClient ingestClient = HttpFileDepotClient
+          .builder(TestContainersConfig.getFileDepotBaseUrl())
+          .build();
+
+      try (IngestJournal journal = IngestJournal.open(tempDir.resolve("ingest.journal"))) {
+        ingestClient.ingestDirectory(first, IngestOptions.of(journal));
+
+        assertThatThrownBy(() -> ingestClient.ingestDirectory(second, IngestOptions.of(journal)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("another directory");
+      }
+    }
+  }
 }
@@ -0,0 +1,100 @@
+package com.saltlux.filedepot.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Startup benchmark: time to first successful call with and without warmUp().
+ *
+ * <p>
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}, which runs each scenario
+ * ({@code benchmarkCold}, {@code benchmarkWarm}) in a freshly forked JVM selected by the
+ * {@code benchmark.scenario} system property. Neither scenario inherits event loops, DNS resolver,
+ * loaded classes or JIT state from the other, so each first call is measured as a freshly started
+ * application would see it.
+ */
+@Tag("benchmark")
+@DisplayName("FileDepotClient Startup Benchmark")
+class FileDepotClientStartupBenchmark {
+
+  private static final String SCENARIO = "benchmark.scenario";
+  private static final int CONNECTIONS = 4;
+
+  private static String baseUrl;
+
+  @BeforeAll
+  static void setUp() {
+    TestContainersConfig.startContainers();
+    baseUrl = TestContainersConfig.getFileDepotBaseUrl();
+  }
+
+  @AfterAll
+  static void tearDown() {
+    TestContainersConfig.stopContainers();
+  }
+
+  private static HttpFileDepotClient newClient(final ConnectionProvider provider) {
+    return HttpFileDepotClient.builder(baseUrl)
+        .httpClient(HttpClient.create(provider))
+        .build();
+  }
+
+  private static Duration timeCall(final FileDepotClient client) {
+    final long started = System.nanoTime();
+    assertThat(client.prepareUpload().id()).isNotBlank();
+    return Duration.ofNanos(System.nanoTime() - started);
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = SCENARIO, matches = "cold")
+  @DisplayName("report time to first successful call without warmUp()")
+  void reportColdFirstCall() {
+    final ConnectionProvider provider = ConnectionProvider.create("benchmark-cold", CONNECTIONS * 2);
+    try {
+      final HttpFileDepotClient client = newClient(provider);
+      final Duration firstCall = timeCall(client);
+      final Duration steadyCall = timeCall(client);
+
+      System.out.printf("first call without warmUp():   %6d ms (steady %d ms)%n",
+          firstCall.toMillis(), steadyCall.toMillis());
+
+      assertThat(client.isWarmedUp()).isFalse();
+    } finally {
+      provider.disposeLater().block();
+    }
+  }
+
+  @Test
+  @EnabledIfSystemProperty(named = SCENARIO, matches = "warm")
+  @DisplayName("report time to first successful call after warmUp()")
+  void reportWarmFirstCall() {
+    final ConnectionProvider provider = ConnectionProvider.create("benchmark-warm", CONNECTIONS * 2);
+    try {
+      final HttpFileDepotClient client = newClient(provider);
+      final long warmUpStarted = System.nanoTime();
+      client.warmUp(WarmUpOptions.DEFAULT.withConnections(CONNECTIONS));
+      final Duration warmUpTime = Duration.ofNanos(System.nanoTime() - warmUpStarted);
+      final Duration firstCall = timeCall(client);
+      final Duration steadyCall = timeCall(client);
+
+      System.out.printf("warmUp():                      %6d ms%n", warmUpTime.toMillis());
+      System.out.printf("first call after warmUp():     %6d ms (steady %d ms)%n",
+          firstCall.toMillis(), steadyCall.toMillis());
+
+      assertThat(client.isWarmedUp()).isTrue();
+    } finally {
+      provider.disposeLater().block();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.saltlux.filedepot.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import reactor.core.publisher.Mono;
+
+@DisplayName("RequestTimer")
+class RequestTimerTest {
+
+  @Test
+  @DisplayName("FileDepotException and HTTP 5xx should be reported as SERVER_ERROR")
+  void serverErrorsShouldBeReportedAsServerError() {
+    assertThat(RequestTimer.outcomeOf(new FileDepotException("boom")))
+        .isEqualTo(RequestEvent.Outcome.SERVER_ERROR);
+    assertThat(RequestTimer.outcomeOf(WebClientResponseException.create(
+        HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null)))
+        .isEqualTo(RequestEvent.Outcome.SERVER_ERROR);
+  }
+
+  @Test
+  @DisplayName("HTTP 4xx and I/O errors should be reported as CLIENT_ERROR")
+  void clientErrorsShouldBeReportedAsClientError() {
+    assertThat(RequestTimer.outcomeOf(WebClientResponseException.create(
+        HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, new byte[0], null)))
+        .isEqualTo(RequestEvent.Outcome.CLIENT_ERROR);
+    assertThat(RequestTimer.outcomeOf(new IOException("connection reset")))
+        .isEqualTo(RequestEvent.Outcome.CLIENT_ERROR);
+  }
+
+  @Test
+  @DisplayName("observe() should report the outcome of the observed Mono")
+  void observeShouldReportOutcome() {
+    final List<RequestEvent> events = new ArrayList<>();
+
+    RequestTimer.observe(events::add, "GET", "/ok", Mono.just("ok")).block();
+    RequestTimer.observe(events::add, "GET", "/fail", Mono.error(new FileDepotException("boom")))
+        .onErrorResume(e -> Mono.empty())
+        .block();
+
+    assertThat(events).extracting(RequestEvent::outcome)
+        .containsExactly(RequestEvent.Outcome.SUCCESS, RequestEvent.Outcome.SERVER_ERROR);
+    assertThat(events.get(1).uriTemplate()).isEqualTo("/fail");
+  }
+}